@@ -0,0 +1,94 @@
+package com.example.urikkiriserver.global.websocket;
+
+import com.example.urikkiriserver.domain.card.presentation.dto.response.CardResponse;
+import com.example.urikkiriserver.domain.quiz.presentation.dto.response.QuizResponse;
+import com.example.urikkiriserver.global.websocket.dto.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 메시지 타입별 JSON / CBOR 프레임 크기와 인코딩 시간 비교
+ * 실행: ./gradlew wireFormatBenchmark (benchmark 소스셋이라 배포 jar에는 포함되지 않음)
+ * (스프링 컨텍스트 없이 application.yml과 같은 SNAKE_CASE 설정의 ObjectMapper로 측정)
+ */
+public final class WireFormatBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private WireFormatBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        WireFormatCodec codec = new WireFormatCodec(objectMapper);
+
+        System.out.printf("%-22s %10s %10s %8s %14s %14s%n",
+                "type", "json B", "cbor B", "ratio", "json ns/op", "cbor ns/op");
+        sampleMessages().forEach((name, message) -> {
+            int jsonBytes = codec.encode(WireFormat.JSON, message).getPayloadLength();
+            int cborBytes = codec.encode(WireFormat.CBOR, message).getPayloadLength();
+            double jsonNanos = measure(codec, WireFormat.JSON, message);
+            double cborNanos = measure(codec, WireFormat.CBOR, message);
+
+            System.out.printf("%-22s %10d %10d %7.0f%% %14.0f %14.0f%n",
+                    name, jsonBytes, cborBytes, 100.0 * cborBytes / jsonBytes, jsonNanos, cborNanos);
+        });
+    }
+
+    // 한 번 인코딩하는 데 걸린 평균 시간 (ns)
+    private static double measure(WireFormatCodec codec, WireFormat format, WebSocketMessage message) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += codec.encode(format, message).getPayloadLength();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += codec.encode(format, message).getPayloadLength();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (sink == 42) System.out.print("");   // JIT가 인코딩을 없애지 못하도록 결과 사용
+        return (double) elapsed / MEASURED_ITERATIONS;
+    }
+
+    // 실제 게임 한 판에서 오가는 메시지와 비슷한 크기의 샘플 (4인 방, 손패 5장)
+    private static Map<String, WebSocketMessage> sampleMessages() {
+        String roomCode = "482913";
+        List<ParticipantInfo> participants = IntStream.rangeClosed(1, 4)
+                .mapToObj(i -> ParticipantInfo.of(1000L + i, "player" + i, 3 + i, i == 1))
+                .toList();
+        List<CardResponse> hand = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> new CardResponse(200L + i, "단어" + i, "우리말 단어 " + i + "의 뜻풀이"))
+                .toList();
+        QuizResponse quiz = new QuizResponse(77L, "다음 중 '이야기'와 뜻이 가장 가까운 우리말은?");
+        List<SubmittedCardInfo> submitted = IntStream.rangeClosed(2, 4)
+                .mapToObj(i -> SubmittedCardInfo.of(500L + i, hand.get(i)))
+                .toList();
+
+        Map<String, WebSocketMessage> messages = new LinkedHashMap<>();
+        messages.put("CONNECTED", WebSocketMessage.of(WebSocketMessageType.CONNECTED,
+                "Game WebSocket connection established. Send CONNECT_GAME message with room code."));
+        messages.put("USER_JOINED", WebSocketMessage.withData(WebSocketMessageType.USER_JOINED, roomCode,
+                participants, "player4 joined the room"));
+        messages.put("GAME_START", WebSocketMessage.withData(WebSocketMessageType.GAME_START, roomCode,
+                GameStartData.of(participants, quiz, hand), "Game is starting! All 4 players connected."));
+        messages.put("CARD_SUBMITTED", WebSocketMessage.withData(WebSocketMessageType.CARD_SUBMITTED, roomCode,
+                submitted.get(0), "Card submitted successfully"));
+        messages.put("ALL_CARDS_SUBMITTED", WebSocketMessage.withData(WebSocketMessageType.ALL_CARDS_SUBMITTED, roomCode,
+                submitted, "All cards have been submitted"));
+        messages.put("NEXT_ROUND", WebSocketMessage.withData(WebSocketMessageType.NEXT_ROUND, roomCode,
+                NextRoundData.of(1002L, "player2", quiz, hand), "Next turn is starting!"));
+        messages.put("ERROR", WebSocketMessage.of(WebSocketMessageType.ERROR, "Invalid WebSocket Message Format"));
+        return messages;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.urikkiriserver.domain.card.domain;
+
+import com.example.urikkiriserver.domain.card.domain.repository.CardRepository;
+import com.example.urikkiriserver.domain.card.exception.CardNotFoundException;
+import com.example.urikkiriserver.domain.card.exception.InsufficientCardsException;
+import com.example.urikkiriserver.domain.card.presentation.dto.response.CardResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시작 시 tbl_card 전체를 불변 배열로 읽어 두는 카드 카탈로그
+ * 게임별 덱 생성과 카드 ID 조회를 DB 접근 없이 처리하며,
+ * 스냅샷을 통째로 교체하는 방식이라 읽기에는 락이 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardCatalog {
+
+    private final CardRepository cardRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(new CardResponse[0], Map.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        CardResponse[] cards = cardRepository.findAll(Sort.by("id")).stream()
+                .map(CardResponse::from)
+                .toArray(CardResponse[]::new);
+
+        Map<Long, Integer> indexById = new HashMap<>(cards.length * 2);
+        for (int i = 0; i < cards.length; i++) {
+            indexById.put(cards[i].cardId(), i);
+        }
+
+        snapshot = new Snapshot(cards, Map.copyOf(indexById));
+        log.info("Loaded {} cards into catalog", cards.length);
+    }
+
+    // 게임 한 판에서 쓸 새 덱 (현재 카탈로그 스냅샷 기준)
+    public CardDeck newDeck() {
+        CardResponse[] cards = loadedSnapshot().cards();
+        if (cards.length == 0) {
+            throw InsufficientCardsException.EXCEPTION;
+        }
+        return new CardDeck(cards);
+    }
+
+    public CardResponse getById(Long cardId) {
+        Snapshot current = loadedSnapshot();
+        Integer index = current.indexById().get(cardId);
+        if (index == null) {
+            throw CardNotFoundException.EXCEPTION;
+        }
+        return current.cards()[index];
+    }
+
+    public int size() {
+        return snapshot.cards().length;
+    }
+
+    private Snapshot loadedSnapshot() {
+        Snapshot current = snapshot;
+        if (current.cards().length > 0) return current;
+
+        // 시작 시 비어 있었다면 (카드 데이터가 나중에 들어온 경우 등) 한 번 다시 읽어 봄
+        load();
+        return snapshot;
+    }
+
+    private record Snapshot(CardResponse[] cards, Map<Long, Integer> indexById) {
+    }
+}
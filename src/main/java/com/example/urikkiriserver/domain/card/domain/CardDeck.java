@@ -0,0 +1,53 @@
+package com.example.urikkiriserver.domain.card.domain;
+
+import com.example.urikkiriserver.domain.card.exception.InsufficientCardsException;
+import com.example.urikkiriserver.domain.card.presentation.dto.response.CardResponse;
+import com.example.urikkiriserver.global.utils.FeistelPermutation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 방 하나의 카드 덱
+ * 카탈로그 배열 위의 순열 키와 현재 위치만 보관하므로, 덱을 모두 소진하기 전까지는
+ * 뽑힌 카드가 서로 겹치지 않음 (남은 카드가 부족하면 새 순서로 다시 섞음)
+ */
+public class CardDeck {
+
+    private final CardResponse[] cards;
+    private FeistelPermutation permutation;
+    private int position;
+
+    CardDeck(CardResponse[] cards) {
+        this.cards = cards;
+        this.permutation = newPermutation(cards.length);
+    }
+
+    /**
+     * 서로 다른 카드 count장을 한 번에 뽑음 (한 라운드의 모든 손패를 한 번에 뽑아야 플레이어끼리 겹치지 않음)
+     * 남은 카드가 count장보다 적으면 뽑기 전에 다시 섞으므로 중간에 섞여서 같은 카드가 두 번 나오지 않음
+     * @throws com.example.urikkiriserver.global.error.exception.UrikkiriException 덱 전체가 count장보다 적으면 InsufficientCardsException
+     */
+    public synchronized CardResponse[] draw(int count) {
+        if (count > cards.length) {
+            throw InsufficientCardsException.EXCEPTION;
+        }
+        if (cards.length - position < count) {
+            permutation = newPermutation(cards.length);
+            position = 0;
+        }
+
+        CardResponse[] drawn = new CardResponse[count];
+        for (int i = 0; i < count; i++) {
+            drawn[i] = cards[permutation.permute(position++)];
+        }
+        return drawn;
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    private static FeistelPermutation newPermutation(int size) {
+        return new FeistelPermutation(size, ThreadLocalRandom.current().nextLong());
+    }
+}
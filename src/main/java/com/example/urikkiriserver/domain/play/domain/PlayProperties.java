@@ -0,0 +1,27 @@
+package com.example.urikkiriserver.domain.play.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "urikkiri.play")
+public record PlayProperties(
+    @DefaultValue RoomCode roomCode,
+    @DefaultValue Reaper reaper
+) {
+
+    // 방 코드(100000 ~ 999999) 할당 설정
+    // 여러 서버가 같은 DB를 쓸 때는 서버마다 node-index를 다르게 주어 코드 구간을 나눠 가짐
+    public record RoomCode(
+        @DefaultValue("0") int nodeIndex,                 // 이 서버가 담당하는 구간 번호 (0부터)
+        @DefaultValue("1") int nodeCount                  // 코드 공간을 나눌 서버 수
+    ) {
+    }
+
+    // 버려진 방 정리 설정
+    public record Reaper(
+        @DefaultValue("60000") long intervalMillis,       // 정리 주기
+        @DefaultValue("600000") long idleMillis,          // 이 시간 동안 메시지도 연결도 없는 방을 정리
+        @DefaultValue("200") int batchSize                // 한 번에 조회/삭제할 방 수 (짧은 트랜잭션 유지)
+    ) {
+    }
+}
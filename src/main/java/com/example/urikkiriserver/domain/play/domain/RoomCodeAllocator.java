@@ -0,0 +1,159 @@
+package com.example.urikkiriserver.domain.play.domain;
+
+import com.example.urikkiriserver.domain.play.domain.repository.RoomRepository;
+import com.example.urikkiriserver.domain.play.exception.RoomCodeExhaustedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 6자리 방 코드 할당기
+ * 이 서버가 담당하는 코드 구간을 비트맵(AtomicLongArray)으로 관리하며,
+ * 빈 비트를 CAS로 차지하므로 락과 DB 조회 없이 코드를 발급함
+ * 시작 시 DB에 이미 있는 방 코드를 한 번 읽어 사용 중으로 표시하고, 방이 정리되면 release로 반납받음
+ */
+@Slf4j
+@Component
+public class RoomCodeAllocator {
+
+    private static final int MIN_CODE = 100000;
+    private static final int MAX_CODE = 999999;
+
+    private final RoomRepository roomRepository;
+
+    private final int rangeStart;    // 이 서버 구간의 첫 코드
+    private final int rangeSize;     // 이 서버 구간의 코드 수
+    private final AtomicLongArray bitmap;
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    public RoomCodeAllocator(RoomRepository roomRepository, PlayProperties playProperties, MeterRegistry meterRegistry) {
+        this.roomRepository = roomRepository;
+
+        PlayProperties.RoomCode properties = playProperties.roomCode();
+        if (properties.nodeCount() <= 0 || properties.nodeIndex() < 0 || properties.nodeIndex() >= properties.nodeCount()) {
+            throw new IllegalStateException("Invalid room code partition: node " + properties.nodeIndex()
+                    + " of " + properties.nodeCount());
+        }
+
+        // 전체 코드 공간을 서버 수만큼 연속 구간으로 나눔 (마지막 서버가 나머지를 가짐)
+        int total = MAX_CODE - MIN_CODE + 1;
+        int span = total / properties.nodeCount();
+        this.rangeStart = MIN_CODE + span * properties.nodeIndex();
+        this.rangeSize = properties.nodeIndex() == properties.nodeCount() - 1 ? total - span * properties.nodeIndex() : span;
+        this.bitmap = new AtomicLongArray((rangeSize + 63) >>> 6);
+
+        Gauge.builder("game.room_codes.allocated", allocated, AtomicInteger::get)
+                .description("Room codes currently in use on this node")
+                .register(meterRegistry);
+        Gauge.builder("game.room_codes.capacity", () -> rangeSize)
+                .description("Room codes owned by this node")
+                .register(meterRegistry);
+    }
+
+    // DB에 남아 있는 방 코드를 사용 중으로 표시 (다른 서버 구간의 코드는 무시)
+    @PostConstruct
+    public void seed() {
+        int seeded = 0;
+        for (String code : roomRepository.findAllCodes()) {
+            int offset = offsetOf(code);
+            if (offset >= 0 && markUsed(offset)) {
+                seeded++;
+            }
+        }
+        log.info("Room code allocator owns {} - {} ({} in use)", rangeStart, rangeStart + rangeSize - 1, seeded);
+    }
+
+    // 사용 중이 아닌 코드를 무작위 위치부터 찾아 할당
+    public String allocate() {
+        int words = bitmap.length();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int startWord = random.nextInt(words);
+
+        for (int i = 0; i < words; i++) {
+            int word = (startWord + i) % words;
+            int offset = claimInWord(word, random.nextInt(64));
+            if (offset >= 0) {
+                allocated.incrementAndGet();
+                return String.valueOf(rangeStart + offset);
+            }
+        }
+        throw RoomCodeExhaustedException.EXCEPTION;
+    }
+
+    // 방이 정리되면 코드 반납 (다른 서버 구간의 코드면 무시)
+    public void release(String code) {
+        int offset = offsetOf(code);
+        if (offset < 0) return;
+
+        int word = offset >>> 6;
+        long mask = 1L << (offset & 63);
+        while (true) {
+            long current = bitmap.get(word);
+            if ((current & mask) == 0) return;
+            if (bitmap.compareAndSet(word, current, current & ~mask)) {
+                allocated.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // 이 서버 구간에 속한 코드인지 (방 정리 대상 판단용)
+    public boolean owns(String code) {
+        return offsetOf(code) >= 0;
+    }
+
+    // word 안의 빈 비트를 preferredBit 이후부터 찾아 CAS로 차지, 없으면 -1
+    private int claimInWord(int word, int preferredBit) {
+        while (true) {
+            long current = bitmap.get(word);
+            long free = ~current & validMask(word);
+            if (free == 0) return -1;
+
+            long preferred = free & (-1L << preferredBit);
+            int bit = Long.numberOfTrailingZeros(preferred != 0 ? preferred : free);
+            if (bitmap.compareAndSet(word, current, current | (1L << bit))) {
+                return (word << 6) + bit;
+            }
+        }
+    }
+
+    private boolean markUsed(int offset) {
+        int word = offset >>> 6;
+        long mask = 1L << (offset & 63);
+        while (true) {
+            long current = bitmap.get(word);
+            if ((current & mask) != 0) return false;
+            if (bitmap.compareAndSet(word, current, current | mask)) {
+                allocated.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // 마지막 word에서 구간 밖 비트는 할당하지 않음
+    private long validMask(int word) {
+        int remaining = rangeSize - (word << 6);
+        return remaining >= 64 ? -1L : (1L << remaining) - 1;
+    }
+
+    // 코드의 비트 위치 (6자리 숫자가 아니거나 이 서버 구간 밖이면 -1)
+    private int offsetOf(String code) {
+        if (code == null || code.length() != 6) return -1;
+
+        int value = 0;
+        for (int i = 0; i < 6; i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+
+        int offset = value - rangeStart;
+        return offset >= 0 && offset < rangeSize ? offset : -1;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.urikkiriserver.domain.play.domain.repository;
 
 import com.example.urikkiriserver.domain.play.domain.Participant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -26,4 +27,15 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
 
     @Query("SELECT p FROM Participant p WHERE p.userId.id = :userId")
     List<Participant> findAllByUserIdId(@Param("userId") Long userId);
+
+    // 아래 쿼리들은 방 명단(RoomRosterStore)을 기준으로 조회 없이 DB에 바로 반영하기 위한 쓰기 전용 쿼리
+    // (점수/출제자 변경은 ParticipantWriteBehind가 모아서 반영)
+
+    @Modifying
+    @Query("DELETE FROM Participant p WHERE p.id = :participantId")
+    int deleteByParticipantId(@Param("participantId") Long participantId);
+
+    @Modifying
+    @Query("DELETE FROM Participant p WHERE p.userId.id = :userId")
+    int deleteAllByUserIdId(@Param("userId") Long userId);
 }
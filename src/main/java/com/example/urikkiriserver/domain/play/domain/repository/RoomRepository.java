@@ -2,12 +2,16 @@ package com.example.urikkiriserver.domain.play.domain.repository;
 
 import com.example.urikkiriserver.domain.play.domain.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
     Optional<Room> findByCode(String code);
 
-    boolean existsByCode(String code);
-}
\ No newline at end of file
+    // 방 코드 할당기 초기화용 (시작 시 한 번)
+    @Query("SELECT r.code FROM Room r")
+    List<String> findAllCodes();
+}
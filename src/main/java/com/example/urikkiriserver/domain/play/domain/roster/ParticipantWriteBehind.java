@@ -0,0 +1,118 @@
+package com.example.urikkiriserver.domain.play.domain.roster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 참가자 점수/출제자 변경을 모아서 DB에 반영하는 write-behind 버퍼
+ * 라운드 진행 중에는 방 명단(RosterMember)만 갱신하고 변경된 참가자를 표시해 두며,
+ * 짧은 주기로 방마다 JDBC batch 한 번으로 반영하고 게임 종료 시에는 즉시 반영함
+ * 명단의 최신 값을 그대로 쓰므로 같은 참가자의 여러 변경은 UPDATE 한 번으로 합쳐짐
+ */
+@Slf4j
+@Component
+public class ParticipantWriteBehind {
+
+    // 방별 flush 직렬화용 락 (방 코드 해시로 나눠 쓰므로 방이 늘어도 락 수는 고정)
+    private static final int LOCK_STRIPES = 64;
+
+    private static final String UPDATE_PARTICIPANT =
+            "UPDATE tbl_participant SET banana_score = ?, is_examiner = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter flushedRows;
+
+    // roomCode -> (participantId -> 변경된 참가자), 내부 맵은 compute 안에서만 변경됨
+    private final Map<String, Map<Long, RosterMember>> pending = new ConcurrentHashMap<>();
+
+    private final Object[] flushLocks = new Object[LOCK_STRIPES];
+
+    public ParticipantWriteBehind(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            flushLocks[i] = new Object();
+        }
+        this.flushedRows = Counter.builder("game.participants.flushed")
+                .description("Participant rows written by the write-behind buffer")
+                .register(meterRegistry);
+
+        Gauge.builder("game.participants.pending.rooms", pending, Map::size)
+                .description("Rooms with participant changes not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    // 점수/출제자 여부가 바뀐 참가자 표시
+    public void markDirty(String roomCode, RosterMember member) {
+        pending.compute(roomCode, (code, members) -> {
+            Map<Long, RosterMember> dirty = members != null ? members : new HashMap<>();
+            dirty.put(member.getParticipantId(), member);
+            return dirty;
+        });
+    }
+
+    /**
+     * 방의 변경 사항을 즉시 반영 (게임 종료, 방 정리 시)
+     * 같은 방의 flush는 락으로 직렬화되므로, 주기 flush가 이 방을 쓰는 중이면 끝날 때까지 기다린 뒤
+     * 실패해서 다시 넣은 변경까지 이어서 반영함
+     * @return 호출이 끝난 시점에 이 방의 변경이 모두 DB에 반영되었으면 true (쓰기 실패 시 false)
+     */
+    public boolean flush(String roomCode) {
+        synchronized (lockFor(roomCode)) {
+            return flushLocked(roomCode);
+        }
+    }
+
+    private boolean flushLocked(String roomCode) {
+        Map<Long, RosterMember> dirty = pending.remove(roomCode);
+        if (dirty == null || dirty.isEmpty()) return true;
+
+        List<Object[]> batchArgs = new ArrayList<>(dirty.size());
+        for (RosterMember member : dirty.values()) {
+            batchArgs.add(new Object[]{member.getBananaScore(), member.isExaminer(), member.getParticipantId()});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_PARTICIPANT, batchArgs);
+            flushedRows.increment(batchArgs.size());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to flush {} participant changes for room {}. Will retry.", batchArgs.size(), roomCode, e);
+
+            // 실패한 변경은 다시 넣어 다음 주기에 재시도 (그 사이 새로 표시된 참가자는 유지)
+            pending.merge(roomCode, dirty, (newer, failed) -> {
+                Map<Long, RosterMember> merged = new HashMap<>(failed);
+                merged.putAll(newer);
+                return merged;
+            });
+            return false;
+        }
+    }
+
+    private Object lockFor(String roomCode) {
+        return flushLocks[(roomCode.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+
+    @Scheduled(fixedDelay = 500)
+    public void flushAll() {
+        for (String roomCode : List.copyOf(pending.keySet())) {
+            flush(roomCode);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushAll();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.urikkiriserver.domain.play.domain.roster;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 방 하나의 참가자 명단 (방 ID, 참가자, 출제자, 점수)
+ * 방 생성/참가/퇴장 시 play 서비스가 갱신하며, WebSocket 핸들러는 DB 대신 이 명단을 읽음
+ * 다른 방 참가로 인한 제거가 다른 스레드에서 일어날 수 있어 명단 변경은 동기화함
+ */
+public class RoomRoster {
+
+    @Getter
+    private final Long roomId;
+
+    @Getter
+    private final String roomCode;
+
+    // 입장 순서대로 보관
+    private final List<RosterMember> members;
+
+    public RoomRoster(Long roomId, String roomCode, List<RosterMember> members) {
+        this.roomId = roomId;
+        this.roomCode = roomCode;
+        this.members = new ArrayList<>(members);
+    }
+
+    public synchronized List<RosterMember> getMembers() {
+        return List.copyOf(members);
+    }
+
+    public synchronized int size() {
+        return members.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    public synchronized Optional<RosterMember> findByUserId(Long userId) {
+        for (RosterMember member : members) {
+            if (member.getUserId().equals(userId)) return Optional.of(member);
+        }
+        return Optional.empty();
+    }
+
+    public synchronized Optional<RosterMember> findByParticipantId(Long participantId) {
+        for (RosterMember member : members) {
+            if (member.getParticipantId().equals(participantId)) return Optional.of(member);
+        }
+        return Optional.empty();
+    }
+
+    public synchronized Optional<RosterMember> findExaminer() {
+        for (RosterMember member : members) {
+            if (member.isExaminer()) return Optional.of(member);
+        }
+        return Optional.empty();
+    }
+
+    synchronized void add(RosterMember member) {
+        members.add(member);
+    }
+
+    synchronized Optional<RosterMember> removeByUserId(Long userId) {
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i).getUserId().equals(userId)) {
+                return Optional.of(members.remove(i));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.urikkiriserver.domain.play.domain.roster;
+
+import com.example.urikkiriserver.domain.play.domain.Room;
+import com.example.urikkiriserver.domain.play.domain.repository.ParticipantRepository;
+import com.example.urikkiriserver.domain.play.domain.repository.RoomRepository;
+import com.example.urikkiriserver.domain.play.exception.RoomNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방 코드별 RoomRoster 보관소
+ * 메모리 명단이 기준이며 MySQL에는 쓰기만 함
+ * 서버 재시작 등으로 명단이 없는 방은 처음 접근할 때 한 번만 DB에서 읽어와 채움
+ */
+@Slf4j
+@Component
+public class RoomRosterStore {
+
+    private final RoomRepository roomRepository;
+    private final ParticipantRepository participantRepository;
+
+    // roomCode -> RoomRoster
+    private final Map<String, RoomRoster> rosters = new ConcurrentHashMap<>();
+
+    // userId -> 참가 중인 roomCode (다른 방 참가 시 이전 방 명단에서 제거하기 위한 인덱스)
+    private final Map<Long, String> roomCodeByUser = new ConcurrentHashMap<>();
+
+    public RoomRosterStore(RoomRepository roomRepository, ParticipantRepository participantRepository,
+                           MeterRegistry meterRegistry) {
+        this.roomRepository = roomRepository;
+        this.participantRepository = participantRepository;
+
+        Gauge.builder("game.rosters", rosters, Map::size)
+                .description("Rooms with an in-memory participant roster")
+                .register(meterRegistry);
+    }
+
+    // 방 명단 조회 (메모리에 없으면 DB에서 로드, 방이 없으면 RoomNotFoundException)
+    public RoomRoster get(String roomCode) {
+        RoomRoster roster = rosters.get(roomCode);
+        if (roster != null) return roster;
+
+        return load(roomCode);
+    }
+
+    // 메모리에 있는 명단만 조회 (DB 접근 없음)
+    public Optional<RoomRoster> find(String roomCode) {
+        return Optional.ofNullable(rosters.get(roomCode));
+    }
+
+    // 새로 만든 방의 명단 등록
+    public void put(RoomRoster roster) {
+        rosters.put(roster.getRoomCode(), roster);
+        roster.getMembers().forEach(member -> roomCodeByUser.put(member.getUserId(), roster.getRoomCode()));
+    }
+
+    public void addMember(RoomRoster roster, RosterMember member) {
+        roster.add(member);
+        roomCodeByUser.put(member.getUserId(), roster.getRoomCode());
+    }
+
+    public Optional<RosterMember> removeMember(RoomRoster roster, Long userId) {
+        roomCodeByUser.remove(userId, roster.getRoomCode());
+        return roster.removeByUserId(userId);
+    }
+
+    // 사용자를 참가 중이던 방에서 빼고 target 방 명단에 추가 (같은 방에 다시 들어오면 참가 정보만 교체)
+    public void moveMember(RoomRoster target, RosterMember member) {
+        String previous = roomCodeByUser.put(member.getUserId(), target.getRoomCode());
+        if (previous != null && !previous.equals(target.getRoomCode())) {
+            removeFromRoster(previous, member.getUserId());
+        }
+
+        target.removeByUserId(member.getUserId());
+        target.add(member);
+    }
+
+    // 사용자가 참가 중인 방이 있으면 그 방 명단에서 제거 (새 방 생성/참가 시)
+    public void leaveCurrentRoom(Long userId) {
+        String roomCode = roomCodeByUser.remove(userId);
+        if (roomCode == null) return;
+
+        removeFromRoster(roomCode, userId);
+    }
+
+    // 명단에서 사용자를 빼고, 비게 된 명단은 메모리에서도 제거
+    private void removeFromRoster(String roomCode, Long userId) {
+        rosters.computeIfPresent(roomCode, (code, roster) -> {
+            roster.removeByUserId(userId);
+            return roster.isEmpty() ? null : roster;
+        });
+    }
+
+    // 방 명단을 메모리에서 제거 (방이 비었을 때)
+    public void evict(String roomCode) {
+        RoomRoster roster = rosters.remove(roomCode);
+        if (roster == null) return;
+
+        roster.getMembers().forEach(member -> roomCodeByUser.remove(member.getUserId(), roomCode));
+    }
+
+    private RoomRoster load(String roomCode) {
+        Room room = roomRepository.findByCode(roomCode)
+                .orElseThrow(() -> RoomNotFoundException.EXCEPTION);
+
+        List<RosterMember> members = participantRepository.findAllByRoomIdIdWithUser(room.getId()).stream()
+                .map(RosterMember::from)
+                .toList();
+
+        RoomRoster loaded = new RoomRoster(room.getId(), roomCode, members);
+        RoomRoster existing = rosters.putIfAbsent(roomCode, loaded);
+        if (existing != null) return existing;
+
+        members.forEach(member -> roomCodeByUser.put(member.getUserId(), roomCode));
+        log.info("Loaded roster for room {} from DB ({} participants)", roomCode, members.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.urikkiriserver.domain.play.domain.roster;
+
+import com.example.urikkiriserver.domain.play.domain.Participant;
+import lombok.Getter;
+
+/**
+ * 방 명단의 참가자 한 명 (tbl_participant 행과 닉네임/레벨을 메모리에 보관)
+ * 점수/출제자 여부는 play 서비스가 DB에 쓰면서 함께 갱신함
+ */
+@Getter
+public class RosterMember {
+
+    private final Long participantId;
+    private final Long userId;
+    private final String nickname;
+    private final int level;
+
+    private volatile int bananaScore;
+    private volatile boolean examiner;
+
+    public RosterMember(Long participantId, Long userId, String nickname, int level, int bananaScore, boolean examiner) {
+        this.participantId = participantId;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.level = level;
+        this.bananaScore = bananaScore;
+        this.examiner = examiner;
+    }
+
+    // User를 함께 조회(JOIN FETCH)했거나 방금 저장한 Participant로 생성
+    public static RosterMember from(Participant participant) {
+        return new RosterMember(
+                participant.getId(),
+                participant.getUserId().getId(),
+                participant.getUserId().getNickname(),
+                participant.getUserId().getLevel(),
+                participant.getBananaScore(),
+                participant.isExaminer()
+        );
+    }
+
+    public int winGame() {
+        return ++this.bananaScore; // Participant.winGame과 동일하게 1점
+    }
+
+    public void setExaminer(boolean examiner) {
+        this.examiner = examiner;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.urikkiriserver.domain.play.exception;
+
+import com.example.urikkiriserver.global.error.exception.ErrorCode;
+import com.example.urikkiriserver.global.error.exception.UrikkiriException;
+
+public class RoomCodeExhaustedException extends UrikkiriException {
+
+    public static final UrikkiriException EXCEPTION = new RoomCodeExhaustedException();
+
+    private RoomCodeExhaustedException() {
+        super(ErrorCode.ROOM_CODE_EXHAUSTED);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.urikkiriserver.domain.play.service;
+
+import com.example.urikkiriserver.domain.play.domain.roster.ParticipantWriteBehind;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRoster;
+import com.example.urikkiriserver.domain.play.domain.roster.RosterMember;
+import com.example.urikkiriserver.domain.play.exception.ParticipantNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeExaminerService {
+
+    private final ParticipantWriteBehind participantWriteBehind;
+
+    // 출제자 교체 후 새 출제자 반환 (현재 출제자가 없으면 새 출제자만 지정, DB 반영은 write-behind)
+    public RosterMember execute(RoomRoster roster, Long nextExaminerParticipantId) {
+        RosterMember nextExaminer = roster.findByParticipantId(nextExaminerParticipantId)
+                .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
+
+        roster.findExaminer().ifPresent(current -> {
+            current.setExaminer(false);
+            participantWriteBehind.markDirty(roster.getRoomCode(), current);
+        });
+
+        nextExaminer.setExaminer(true);
+        participantWriteBehind.markDirty(roster.getRoomCode(), nextExaminer);
+
+        return nextExaminer;
+    }
+}
@@ -2,10 +2,15 @@ package com.example.urikkiriserver.domain.play.service;
 
 import com.example.urikkiriserver.domain.play.domain.Participant;
 import com.example.urikkiriserver.domain.play.domain.Room;
+import com.example.urikkiriserver.domain.play.domain.RoomCodeAllocator;
 import com.example.urikkiriserver.domain.play.domain.repository.ParticipantRepository;
 import com.example.urikkiriserver.domain.play.domain.repository.RoomRepository;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRoster;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRosterStore;
+import com.example.urikkiriserver.domain.play.domain.roster.RosterMember;
 import com.example.urikkiriserver.domain.play.presentation.dto.response.RoomResponse;
 import com.example.urikkiriserver.domain.user.domain.User;
+import com.example.urikkiriserver.global.utils.TransactionCallbacks;
 import com.example.urikkiriserver.global.websocket.dto.ParticipantInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Random;
 
 @Slf4j
 @Service
@@ -22,7 +26,8 @@ public class CreateRoomService {
 
     private final RoomRepository roomRepository;
     private final ParticipantRepository participantRepository;
-    private final Random random = new Random();
+    private final RoomRosterStore roomRosterStore;
+    private final RoomCodeAllocator roomCodeAllocator;
 
     @Transactional
     public RoomResponse execute(User user) {
@@ -30,16 +35,13 @@ public class CreateRoomService {
     }
 
     private RoomResponse createRoom(User user) {
-        // 1. 사용자가 이미 다른 방에 참가 중인 경우 자동으로 제거
-        List<Participant> existingParticipants = participantRepository.findAllByUserIdId(user.getId());
-
-        if (!existingParticipants.isEmpty()) {
-            participantRepository.deleteAll(existingParticipants);
-            participantRepository.flush();  // 삭제를 즉시 DB에 반영
-        }
+        // 1. 사용자가 이미 다른 방에 참가 중인 경우 자동으로 제거 (조회 없이 삭제, 명단은 커밋 후 반영)
+        participantRepository.deleteAllByUserIdId(user.getId());
 
         // 2. 새 방 생성
-        String roomCode = generateRoomCode();
+        String roomCode = roomCodeAllocator.allocate();
+        // 방 저장이 롤백되면 할당한 코드를 반납 (반납하지 않으면 코드 공간에서 영영 빠짐)
+        TransactionCallbacks.afterRollback(() -> roomCodeAllocator.release(roomCode));
 
         Room savedRoom = roomRepository.save(
             Room.builder()
@@ -48,7 +50,7 @@ public class CreateRoomService {
         );
 
         // 3. 방장으로 참가자 추가
-        participantRepository.save(Participant.builder()
+        Participant host = participantRepository.save(Participant.builder()
             .userId(user)
             .roomId(savedRoom)
             .bananaScore(0)
@@ -61,6 +63,13 @@ public class CreateRoomService {
 
         log.info("Room {} and participant flushed to DB", roomCode);
 
+        // 방 명단 등록 (이후 게임 진행 중에는 DB 대신 명단을 조회), 커밋된 뒤에만 반영
+        RoomRoster roster = new RoomRoster(savedRoom.getId(), roomCode, List.of(RosterMember.from(host)));
+        TransactionCallbacks.afterCommit(() -> {
+            roomRosterStore.leaveCurrentRoom(user.getId());
+            roomRosterStore.put(roster);
+        });
+
         // 4. 방장 정보를 포함한 참가자 목록 생성
         List<ParticipantInfo> participants = List.of(
             ParticipantInfo.of(
@@ -73,14 +82,4 @@ public class CreateRoomService {
 
         return RoomResponse.of(roomCode, participants);
     }
-
-    private String generateRoomCode() {
-        String roomCode;
-        do {
-            // 100000 ~ 999999 범위의 6자리 숫자 생성
-            roomCode = String.format("%06d", random.nextInt(900000) + 100000);
-        } while (roomRepository.existsByCode(roomCode));
-
-        return roomCode;
-    }
 }
@@ -1,19 +1,22 @@
 package com.example.urikkiriserver.domain.play.service;
 
 import com.example.urikkiriserver.domain.play.domain.Participant;
-import com.example.urikkiriserver.domain.play.domain.Room;
 import com.example.urikkiriserver.domain.play.domain.repository.ParticipantRepository;
 import com.example.urikkiriserver.domain.play.domain.repository.RoomRepository;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRoster;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRosterStore;
+import com.example.urikkiriserver.domain.play.domain.roster.RosterMember;
 import com.example.urikkiriserver.domain.play.exception.RoomAlreadyFullException;
-import com.example.urikkiriserver.domain.play.exception.RoomNotFoundException;
 import com.example.urikkiriserver.domain.play.presentation.dto.response.JoinRoomResponse;
 import com.example.urikkiriserver.domain.user.domain.User;
+import com.example.urikkiriserver.global.utils.TransactionCallbacks;
 import com.example.urikkiriserver.global.websocket.dto.ParticipantInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -23,63 +26,34 @@ public class JoinRoomService {
 
     private final RoomRepository roomRepository;
     private final ParticipantRepository participantRepository;
+    private final RoomRosterStore roomRosterStore;
 
     private static final int MAX_PARTICIPANTS = 4;
 
     @Transactional
     public JoinRoomResponse execute(String roomCode, User user) {
-        // 1. 방이 존재하는지 확인
-        Room room = roomRepository.findByCode(roomCode)
-            .orElseThrow(() -> RoomNotFoundException.EXCEPTION);
+        // 1. 방이 존재하는지 확인 (메모리 명단이 없을 때만 DB 조회)
+        RoomRoster roster = roomRosterStore.get(roomCode);
 
-        // 2. 사용자가 이미 다른 방에 참가 중인 경우 자동으로 제거
-        List<Participant> existingParticipants = participantRepository.findAllByUserIdId(user.getId());
+        // 2. 방이 꽉 찼는지 먼저 확인 (이미 이 방에 있던 사용자는 다시 들어오는 것이므로 제외하고 셈)
+        List<RosterMember> others = new ArrayList<>(roster.getMembers());
+        others.removeIf(member -> member.getUserId().equals(user.getId()));
 
-        if (!existingParticipants.isEmpty()) {
-            participantRepository.deleteAll(existingParticipants);
-            participantRepository.flush();  // 삭제를 즉시 DB에 반영
-        }
-
-        // 3. 방이 꽉 찼는지 확인
-        int currentParticipants = participantRepository.countByRoomIdId(room.getId());
+        int currentParticipants = others.size();
         if (currentParticipants >= MAX_PARTICIPANTS) {
             throw RoomAlreadyFullException.EXCEPTION;
         }
 
-        // 4. 방에 아무도 없는지 확인
-        if (currentParticipants <= 0) {
-            // 5. 방장으로 참가자 추가
-            participantRepository.save(Participant.builder()
-                    .userId(user)
-                    .roomId(room)
-                    .bananaScore(0)
-                    .isExaminer(true)
-                    .build());
-
-            // 즉시 DB에 반영 (중요: 다른 트랜잭션에서 즉시 조회 가능하도록)
-            participantRepository.flush();
-
-            log.info("Room {} and participant flushed to DB", roomCode);
+        // 3. 사용자가 이미 다른 방에 참가 중인 경우 자동으로 제거 (조회 없이 삭제, 명단은 커밋 후 반영)
+        participantRepository.deleteAllByUserIdId(user.getId());
 
-            // 6. 방장 정보를 포함한 참가자 목록 생성
-            List<ParticipantInfo> participants = List.of(
-                    ParticipantInfo.of(
-                            user.getId(),
-                            user.getNickname(),
-                            user.getLevel(),
-                            true  // 방장이므로 examiner = true
-                    )
-            );
-
-            return JoinRoomResponse.of(room, participants);
-        }
-
-        // 5. 참가자 추가 (시험관이 아닌 일반 참가자로 추가)
-        participantRepository.save(Participant.builder()
+        // 4. 참가자 추가 (방에 아무도 없으면 방장으로, 아니면 일반 참가자로)
+        boolean isExaminer = currentParticipants <= 0;
+        Participant participant = participantRepository.save(Participant.builder()
             .userId(user)
-            .roomId(room)
+            .roomId(roomRepository.getReferenceById(roster.getRoomId()))
             .bananaScore(0)
-            .isExaminer(false)
+            .isExaminer(isExaminer)
             .build());
 
         // 즉시 DB에 반영 (중요: 다른 트랜잭션에서 즉시 조회 가능하도록)
@@ -87,12 +61,16 @@ public class JoinRoomService {
 
         log.info("Participant for user {} in room {} flushed to DB", user.getNickname(), roomCode);
 
-        // 6. 전체 참가자 목록 조회 (User를 Eager Fetch)
-        List<ParticipantInfo> participants = participantRepository.findAllByRoomIdIdWithUser(room.getId())
-            .stream()
+        // 5. 메모리 명단은 커밋된 뒤에만 변경 (롤백되면 DB와 명단이 어긋나지 않도록)
+        RosterMember joined = RosterMember.from(participant);
+        TransactionCallbacks.afterCommit(() -> roomRosterStore.moveMember(roster, joined));
+
+        // 6. 전체 참가자 목록 생성 (기존 참가자 + 새 참가자)
+        others.add(joined);
+        List<ParticipantInfo> participants = others.stream()
             .map(ParticipantInfo::from)
             .toList();
 
-        return JoinRoomResponse.of(room, participants);
+        return JoinRoomResponse.of(roster.getRoomCode(), participants);
     }
 }
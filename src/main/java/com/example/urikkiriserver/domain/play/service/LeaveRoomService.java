@@ -0,0 +1,45 @@
+package com.example.urikkiriserver.domain.play.service;
+
+import com.example.urikkiriserver.domain.play.domain.repository.ParticipantRepository;
+import com.example.urikkiriserver.domain.play.domain.roster.ParticipantWriteBehind;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRoster;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRosterStore;
+import com.example.urikkiriserver.domain.play.domain.roster.RosterMember;
+import com.example.urikkiriserver.domain.play.exception.ParticipantNotFoundException;
+import com.example.urikkiriserver.global.utils.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class LeaveRoomService {
+
+    private final ParticipantRepository participantRepository;
+    private final RoomRosterStore roomRosterStore;
+    private final ParticipantWriteBehind participantWriteBehind;
+
+    /**
+     * 방에서 참가자를 제거하고 제거된 참가자 반환 (방이 비면 명단도 메모리에서 제거)
+     * 메모리 명단과 write-behind는 커밋된 뒤에만 건드림 (삭제가 롤백되면 명단과 DB가 어긋나지 않도록)
+     */
+    @Transactional
+    public RosterMember execute(RoomRoster roster, Long userId) {
+        RosterMember member = roster.findByUserId(userId)
+                .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
+
+        participantRepository.deleteByParticipantId(member.getParticipantId());
+
+        TransactionCallbacks.afterCommit(() -> {
+            roomRosterStore.removeMember(roster, userId);
+
+            // 마지막 참가자였다면 남은 점수 변경을 트랜잭션 밖에서 반영한 뒤 명단 제거
+            if (roster.isEmpty()) {
+                participantWriteBehind.flush(roster.getRoomCode());
+                roomRosterStore.evict(roster.getRoomCode());
+            }
+        });
+
+        return member;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.urikkiriserver.domain.play.service;
+
+import com.example.urikkiriserver.domain.play.domain.roster.ParticipantWriteBehind;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRoster;
+import com.example.urikkiriserver.domain.play.domain.roster.RosterMember;
+import com.example.urikkiriserver.domain.play.exception.ParticipantNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class WinRoundService {
+
+    private final ParticipantWriteBehind participantWriteBehind;
+
+    // 출제자에게 선택된 참가자의 bananaScore 증가 후 해당 참가자 반환 (DB 반영은 write-behind)
+    public RosterMember execute(RoomRoster roster, Long participantId) {
+        RosterMember winner = roster.findByParticipantId(participantId)
+                .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
+
+        winner.winGame();
+        participantWriteBehind.markDirty(roster.getRoomCode(), winner);
+
+        return winner;
+    }
+}
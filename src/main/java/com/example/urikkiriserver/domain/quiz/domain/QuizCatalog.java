@@ -0,0 +1,71 @@
+package com.example.urikkiriserver.domain.quiz.domain;
+
+import com.example.urikkiriserver.domain.quiz.domain.repository.QuizRepository;
+import com.example.urikkiriserver.domain.quiz.exception.QuizNotFoundException;
+import com.example.urikkiriserver.domain.quiz.presentation.dto.response.QuizResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시작 시 tbl_quiz 전체를 불변 배열로 읽어 두는 문제 카탈로그
+ * 문제 선택 시 ORDER BY RAND() 쿼리 대신 방별 QuizSequence로 다음 문제를 O(1)에 고름
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizCatalog {
+
+    private static final QuizResponse[] EMPTY = new QuizResponse[0];
+
+    private final QuizRepository quizRepository;
+
+    // 교체만 하고 내용은 바꾸지 않는 스냅샷 (진행 중인 방의 순서는 만들 당시 배열을 그대로 사용)
+    private volatile QuizResponse[] quizzes = EMPTY;
+
+    // roomCode -> 해당 게임의 출제 순서
+    private final Map<String, QuizSequence> sequences = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        quizzes = quizRepository.findAll(Sort.by("id")).stream()
+                .map(QuizResponse::from)
+                .toArray(QuizResponse[]::new);
+
+        log.info("Loaded {} quizzes into catalog", quizzes.length);
+    }
+
+    // 방의 다음 문제 (한 게임 안에서는 카탈로그를 모두 소진하기 전까지 중복 없음)
+    public QuizResponse next(String roomCode) {
+        QuizResponse[] snapshot = loadedQuizzes();
+        return sequences.computeIfAbsent(roomCode, code -> new QuizSequence(snapshot)).next();
+    }
+
+    // 게임 종료 시 방의 출제 순서 제거 (다음 게임은 새 순서로 시작)
+    public void release(String roomCode) {
+        sequences.remove(roomCode);
+    }
+
+    public int size() {
+        return quizzes.length;
+    }
+
+    private QuizResponse[] loadedQuizzes() {
+        QuizResponse[] snapshot = quizzes;
+        if (snapshot.length > 0) return snapshot;
+
+        // 시작 시 비어 있었다면 (문제 데이터가 나중에 들어온 경우 등) 한 번 다시 읽어 봄
+        load();
+        snapshot = quizzes;
+        if (snapshot.length == 0) {
+            throw QuizNotFoundException.EXCEPTION;
+        }
+        return snapshot;
+    }
+}
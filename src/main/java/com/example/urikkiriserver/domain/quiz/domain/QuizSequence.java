@@ -0,0 +1,35 @@
+package com.example.urikkiriserver.domain.quiz.domain;
+
+import com.example.urikkiriserver.domain.quiz.presentation.dto.response.QuizResponse;
+import com.example.urikkiriserver.global.utils.FeistelPermutation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 방 하나의 출제 순서
+ * 카탈로그 배열 위의 순열 키와 현재 위치만 보관하므로 방마다 O(1) 메모리로
+ * 한 게임 안에서 같은 문제가 다시 나오지 않음 (카탈로그를 모두 소진하면 새 순서로 다시 시작)
+ */
+class QuizSequence {
+
+    private final QuizResponse[] quizzes;
+    private FeistelPermutation permutation;
+    private int position;
+
+    QuizSequence(QuizResponse[] quizzes) {
+        this.quizzes = quizzes;
+        this.permutation = newPermutation(quizzes.length);
+    }
+
+    synchronized QuizResponse next() {
+        if (position == quizzes.length) {
+            permutation = newPermutation(quizzes.length);
+            position = 0;
+        }
+        return quizzes[permutation.permute(position++)];
+    }
+
+    private static FeistelPermutation newPermutation(int size) {
+        return new FeistelPermutation(size, ThreadLocalRandom.current().nextLong());
+    }
+}
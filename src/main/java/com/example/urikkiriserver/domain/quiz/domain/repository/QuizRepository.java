@@ -2,12 +2,6 @@ package com.example.urikkiriserver.domain.quiz.domain.repository;
 
 import com.example.urikkiriserver.domain.quiz.domain.Quiz;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-
-import java.util.Optional;
 
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
-
-    @Query(value = "SELECT * FROM tbl_quiz ORDER BY RAND() LIMIT 1", nativeQuery = true)
-    Optional<Quiz> findRandomQuiz();
 }
@@ -1,25 +1,18 @@
 package com.example.urikkiriserver.domain.quiz.service;
 
-import com.example.urikkiriserver.domain.quiz.domain.Quiz;
-import com.example.urikkiriserver.domain.quiz.domain.repository.QuizRepository;
-import com.example.urikkiriserver.domain.quiz.exception.QuizNotFoundException;
+import com.example.urikkiriserver.domain.quiz.domain.QuizCatalog;
 import com.example.urikkiriserver.domain.quiz.presentation.dto.response.QuizResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class QueryRandomQuizService {
 
-    private final QuizRepository quizRepository;
+    private final QuizCatalog quizCatalog;
 
-    @Transactional(readOnly = true)
-    public QuizResponse execute() {
-        Quiz quiz = quizRepository.findRandomQuiz()
-                .orElseThrow(() -> QuizNotFoundException.EXCEPTION);
-
-        return QuizResponse.from(quiz);
+    // 방별 출제 순서에서 다음 문제 조회 (한 게임 안에서 중복 없음)
+    public QuizResponse execute(String roomCode) {
+        return quizCatalog.next(roomCode);
     }
 }
-
@@ -8,6 +8,7 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Entity(name = "tbl_user")
+@Table(indexes = @Index(name = "idx_user_bananaxp_id", columnList = "bananaxp, id"))
 public class User {
 
     @Id
@@ -0,0 +1,83 @@
+package com.example.urikkiriserver.domain.user.domain.leaderboard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 프로세스 메모리에 두는 랭킹 (Redis 없이 실행하는 테스트/로컬 환경용)
+ * urikkiri.leaderboard.store=memory 일 때 사용
+ */
+@Component
+@ConditionalOnProperty(prefix = "urikkiri.leaderboard", name = "store", havingValue = "memory")
+public class InMemoryLeaderboard implements Leaderboard {
+
+    private static final Comparator<LeaderboardEntry> RANKING_ORDER =
+            Comparator.comparingInt(LeaderboardEntry::bananaxp).reversed()
+                    .thenComparing(Comparator.comparingLong(LeaderboardEntry::userId).reversed());
+
+    private final NavigableSet<LeaderboardEntry> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+
+    // userId -> 현재 랭킹에 들어 있는 항목 (갱신 시 이전 위치 제거용)
+    private final Map<Long, LeaderboardEntry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void updateAll(Collection<LeaderboardEntry> updated) {
+        for (LeaderboardEntry entry : updated) {
+            LeaderboardEntry previous = entries.put(entry.userId(), entry);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            ranking.add(entry);
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> page(RankingCursor after, int limit) {
+        // 정렬은 (bananaxp, userId)만 비교하므로 커서 키로 만든 항목에서 바로 이어서 읽음
+        NavigableSet<LeaderboardEntry> view = after != null
+                ? ranking.tailSet(new LeaderboardEntry(after.userId(), null, 0, after.bananaxp()), false)
+                : ranking;
+
+        List<LeaderboardEntry> page = new ArrayList<>(limit);
+        for (LeaderboardEntry entry : view) {
+            if (page.size() >= limit) break;
+            page.add(entry);
+        }
+        return page;
+    }
+
+    @Override
+    public long size() {
+        return entries.size();
+    }
+
+    @Override
+    public Rebuild rebuild() {
+        Map<Long, LeaderboardEntry> rebuilt = new HashMap<>();
+        return new Rebuild() {
+            @Override
+            public void addAll(Collection<LeaderboardEntry> added) {
+                added.forEach(entry -> rebuilt.put(entry.userId(), entry));
+            }
+
+            @Override
+            public void publish() {
+                synchronized (InMemoryLeaderboard.this) {
+                    ranking.clear();
+                    entries.clear();
+                    updateAll(rebuilt.values());
+                }
+            }
+        };
+    }
+}
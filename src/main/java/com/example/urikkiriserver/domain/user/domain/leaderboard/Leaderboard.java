@@ -0,0 +1,37 @@
+package com.example.urikkiriserver.domain.user.domain.leaderboard;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * bananaxp 내림차순 랭킹
+ * 경험치가 바뀔 때마다 해당 유저만 갱신하고, 조회는 정렬된 구조에서 필요한 구간만 읽음
+ * 같은 경험치는 userId가 큰 유저가 먼저 오도록 순서를 고정하고, 커서는 (bananaxp, userId) 정렬 키로 넘겨
+ * 페이지 사이에 경험치가 바뀌어도 페이지가 겹치거나 빠지지 않게 함
+ */
+public interface Leaderboard {
+
+    // 유저의 현재 경험치/닉네임/레벨로 갱신 (없으면 추가)
+    void updateAll(Collection<LeaderboardEntry> entries);
+
+    /**
+     * 랭킹 구간 조회
+     * @param after 이전 페이지 마지막 유저의 정렬 키 (null이면 1위부터), 이 키보다 뒤 순서인 유저부터 반환
+     * @param limit 가져올 최대 인원
+     */
+    List<LeaderboardEntry> page(RankingCursor after, int limit);
+
+    long size();
+
+    // 랭킹 전체 교체 시작 (새 랭킹을 따로 채우는 동안 조회는 기존 랭킹으로 계속됨)
+    Rebuild rebuild();
+
+    interface Rebuild {
+
+        // 새 랭킹에 유저 추가
+        void addAll(Collection<LeaderboardEntry> entries);
+
+        // 채운 랭킹으로 기존 랭킹을 한 번에 교체 (새 랭킹에 없는 유저는 사라짐)
+        void publish();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.urikkiriserver.domain.user.domain.leaderboard;
+
+import com.example.urikkiriserver.domain.user.domain.User;
+
+// 랭킹에 표시되는 유저 한 명 (비밀번호 등 User 엔티티의 나머지 필드는 담지 않음)
+public record LeaderboardEntry(
+        long userId,
+        String nickname,
+        int level,
+        int bananaxp
+) {
+    public static LeaderboardEntry from(User user) {
+        return new LeaderboardEntry(user.getId(), user.getNickname(), user.getLevel(), user.getBananaxp());
+    }
+}
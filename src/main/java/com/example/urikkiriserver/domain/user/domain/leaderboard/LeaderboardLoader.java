@@ -0,0 +1,62 @@
+package com.example.urikkiriserver.domain.user.domain.leaderboard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 시 tbl_user를 한 번 읽어 순위 인덱스(XpRankIndex)를 채우고 랭킹도 DB 기준으로 다시 만듦
+ * (Redis 랭킹이 남아 있어도 일부만 다시 채워졌거나 SQL에서 바뀐 값일 수 있으므로 새로 채운 뒤 한 번에 교체)
+ * 이후에는 경험치가 바뀔 때만 해당 유저를 갱신하므로 전체 테이블을 다시 읽지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardLoader {
+
+    private static final String SELECT_USERS =
+            "SELECT id, nickname, level, bananaxp FROM tbl_user WHERE id > ? ORDER BY id LIMIT ?";
+    private static final int BATCH_SIZE = 1000;
+
+    private final Leaderboard leaderboard;
+    private final XpRankIndex xpRankIndex;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // 읽는 동안 조회는 기존 랭킹으로 계속되고, 다 읽은 뒤 교체
+        Leaderboard.Rebuild rebuild = leaderboard.rebuild();
+
+        long lastId = 0;
+        long loaded = 0;
+        while (true) {
+            List<LeaderboardEntry> batch = new ArrayList<>(BATCH_SIZE);
+            jdbcTemplate.query(SELECT_USERS, rs -> {
+                batch.add(new LeaderboardEntry(
+                        rs.getLong("id"),
+                        rs.getString("nickname"),
+                        rs.getInt("level"),
+                        rs.getInt("bananaxp")
+                ));
+            }, lastId, BATCH_SIZE);
+
+            if (batch.isEmpty()) break;
+
+            xpRankIndex.updateAll(batch);
+            rebuild.addAll(batch);
+            loaded += batch.size();
+            lastId = batch.get(batch.size() - 1).userId();
+
+            if (batch.size() < BATCH_SIZE) break;
+        }
+
+        rebuild.publish();
+        log.info("Loaded {} users into rank index and rebuilt leaderboard", loaded);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.urikkiriserver.domain.user.domain.leaderboard;
+
+import java.util.List;
+
+/**
+ * 한 유저 기준 순위 조회 결과
+ * @param me 유저 본인의 순위
+ * @param totalUsers 랭킹에 있는 전체 유저 수
+ * @param neighbors 본인 앞뒤 유저 (본인 포함, 랭킹 순서)
+ */
+public record RankSnapshot(
+        RankedEntry me,
+        long totalUsers,
+        List<RankedEntry> neighbors
+) {
+}
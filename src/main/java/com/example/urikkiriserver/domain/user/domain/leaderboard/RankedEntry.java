@@ -0,0 +1,8 @@
+package com.example.urikkiriserver.domain.user.domain.leaderboard;
+
+// 순위가 매겨진 랭킹 항목 (같은 경험치는 같은 순위)
+public record RankedEntry(
+        long rank,
+        LeaderboardEntry entry
+) {
+}
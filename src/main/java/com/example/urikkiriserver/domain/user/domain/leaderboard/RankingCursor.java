@@ -0,0 +1,37 @@
+package com.example.urikkiriserver.domain.user.domain.leaderboard;
+
+import com.example.urikkiriserver.domain.user.exception.InvalidRankingCursor;
+
+/**
+ * 랭킹 페이지 커서 (이전 페이지 마지막 유저의 정렬 키)
+ * userId만 쓰면 그 유저의 경험치가 바뀐 뒤 위치가 달라져 페이지가 겹치거나 빠지므로 (bananaxp, userId)를 함께 담음
+ * 문자열 형식은 "{bananaxp}_{userId}"
+ */
+public record RankingCursor(
+        int bananaxp,
+        long userId
+) {
+    private static final char SEPARATOR = '_';
+
+    public static RankingCursor after(LeaderboardEntry entry) {
+        return new RankingCursor(entry.bananaxp(), entry.userId());
+    }
+
+    public static RankingCursor parse(String value) {
+        int separator = value.indexOf(SEPARATOR);
+        if (separator <= 0) throw InvalidRankingCursor.EXCEPTION;
+
+        try {
+            return new RankingCursor(
+                    Integer.parseInt(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1))
+            );
+        } catch (NumberFormatException e) {
+            throw InvalidRankingCursor.EXCEPTION;
+        }
+    }
+
+    public String encode() {
+        return bananaxp + String.valueOf(SEPARATOR) + userId;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.urikkiriserver.domain.user.domain.leaderboard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis sorted set 기반 랭킹 (여러 서버가 같은 랭킹을 공유)
+ * - leaderboard:xp       ZSET  member = userId, score = bananaxp
+ * - leaderboard:profile  HASH  field = userId, value = "level:nickname"
+ * 같은 점수는 Redis가 member 역순으로 돌려주므로, member를 고정 길이로 맞춰 userId 내림차순이 되게 함
+ * 시작 시 tbl_user 전체로 임시 키를 채운 뒤 RENAME으로 교체하여, Redis가 비워졌다 일부만 다시 채워졌거나
+ * SQL에서 유저가 지워지거나 경험치가 고쳐진 경우에도 랭킹이 DB와 맞춰짐
+ * 커서 다음 페이지는 스크립트 하나로 (bananaxp, member) 키 뒤부터 ZREVRANGEBYSCORE로 읽어, 조회 중 다른 갱신이 끼어들지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "urikkiri.leaderboard", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisLeaderboard implements Leaderboard {
+
+    private static final String SCORE_KEY = "leaderboard:xp";
+    private static final String PROFILE_KEY = "leaderboard:profile";
+
+    // 재구성 중 서버가 죽어도 임시 키가 남지 않도록 만료를 걸어 두고, 교체할 때 만료를 지움
+    private static final long REBUILD_KEY_TTL_SECONDS = 3600;
+
+    /**
+     * KEYS = 임시 점수 ZSET, 임시 프로필 HASH, 점수 ZSET, 프로필 HASH
+     * 두 키를 한 번에 교체 (유저가 없어 임시 키가 없으면 기존 키를 지움)
+     */
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, 2 do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('RENAME', KEYS[i], KEYS[i + 2])
+                    redis.call('PERSIST', KEYS[i + 2])
+                else
+                    redis.call('DEL', KEYS[i + 2])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 점수 ZSET, ARGV = 커서 경험치, 커서 member, limit
+     * 반환: member, score 가 번갈아 들어 있는 목록
+     * 커서 유저가 아직 같은 점수면 그 순위로 같은 점수 구간의 시작 위치를 바로 구하고,
+     * 경험치가 바뀌었으면 같은 점수 구간 처음부터 커서 member보다 작은 member가 나올 때까지 건너뜀
+     */
+    private static final RedisScript<List> PAGE_AFTER_SCRIPT = new DefaultRedisScript<>("""
+            local xp = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[3])
+            local offset = 0
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[2])
+            if score and tonumber(score) == xp then
+                offset = redis.call('ZREVRANK', KEYS[1], ARGV[2]) + 1 - redis.call('ZCOUNT', KEYS[1], '(' .. ARGV[1], '+inf')
+            end
+            local result = {}
+            while #result < limit * 2 do
+                local batch = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], '-inf', 'WITHSCORES', 'LIMIT', offset, limit)
+                for i = 1, #batch, 2 do
+                    if #result < limit * 2 and (tonumber(batch[i + 1]) < xp or batch[i] < ARGV[2]) then
+                        table.insert(result, batch[i])
+                        table.insert(result, batch[i + 1])
+                    end
+                end
+                if #batch < limit * 2 then break end
+                offset = offset + limit
+            end
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void updateAll(Collection<LeaderboardEntry> entries) {
+        write(SCORE_KEY, PROFILE_KEY, entries, false);
+    }
+
+    @Override
+    public Rebuild rebuild() {
+        String suffix = ":rebuild:" + UUID.randomUUID();
+        String scoreKey = SCORE_KEY + suffix;
+        String profileKey = PROFILE_KEY + suffix;
+
+        return new Rebuild() {
+            @Override
+            public void addAll(Collection<LeaderboardEntry> entries) {
+                write(scoreKey, profileKey, entries, true);
+            }
+
+            @Override
+            public void publish() {
+                redisTemplate.execute(PUBLISH_SCRIPT, List.of(scoreKey, profileKey, SCORE_KEY, PROFILE_KEY));
+            }
+        };
+    }
+
+    // 유저마다 ZADD + HSET을 파이프라인으로 한 번에 전송
+    private void write(String scoreKey, String profileKey, Collection<LeaderboardEntry> entries, boolean expiring) {
+        if (entries.isEmpty()) return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (LeaderboardEntry entry : entries) {
+                String member = toMember(entry.userId());
+                redis.zAdd(scoreKey, entry.bananaxp(), member);
+                redis.hSet(profileKey, member, entry.level() + ":" + entry.nickname());
+            }
+            if (expiring) {
+                redis.expire(scoreKey, REBUILD_KEY_TTL_SECONDS);
+                redis.expire(profileKey, REBUILD_KEY_TTL_SECONDS);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<LeaderboardEntry> page(RankingCursor after, int limit) {
+        List<String> members = new ArrayList<>(limit);
+        List<Integer> scores = new ArrayList<>(limit);
+
+        if (after == null) {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().reverseRangeWithScores(SCORE_KEY, 0, limit - 1);
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    members.add(tuple.getValue());
+                    scores.add(tuple.getScore().intValue());
+                }
+            }
+        } else {
+            @SuppressWarnings("unchecked")
+            List<String> flat = redisTemplate.execute(PAGE_AFTER_SCRIPT, List.of(SCORE_KEY),
+                    String.valueOf(after.bananaxp()), toMember(after.userId()), String.valueOf(limit));
+            if (flat != null) {
+                for (int i = 0; i + 1 < flat.size(); i += 2) {
+                    members.add(flat.get(i));
+                    scores.add((int) Double.parseDouble(flat.get(i + 1)));
+                }
+            }
+        }
+
+        if (members.isEmpty()) return List.of();
+        return withProfiles(members, scores);
+    }
+
+    private List<LeaderboardEntry> withProfiles(List<String> members, List<Integer> scores) {
+        List<Object> profiles = redisTemplate.opsForHash().multiGet(PROFILE_KEY, new ArrayList<>(members));
+
+        List<LeaderboardEntry> page = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            String profile = (String) profiles.get(i);
+            if (profile == null) continue;
+
+            int separator = profile.indexOf(':');
+            page.add(new LeaderboardEntry(
+                    Long.parseLong(members.get(i)),
+                    profile.substring(separator + 1),
+                    Integer.parseInt(profile.substring(0, separator)),
+                    scores.get(i)
+            ));
+        }
+        return page;
+    }
+
+    @Override
+    public long size() {
+        Long size = redisTemplate.opsForZSet().zCard(SCORE_KEY);
+        return size != null ? size : 0;
+    }
+
+    // 같은 점수일 때 사전 역순 = userId 내림차순이 되도록 19자리로 맞춤
+    private static String toMember(long userId) {
+        return String.format("%019d", userId);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.urikkiriserver.domain.user.domain.leaderboard;
+
+import com.example.urikkiriserver.global.utils.FenwickTree;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * bananaxp 순위 인덱스 (order-statistic)
+ * 경험치 값마다 버킷을 두고 Fenwick 트리에 버킷별 인원을 기록하여
+ * "나보다 경험치가 높은 유저 수"와 "다음으로 유저가 있는 경험치"를 O(log n)에 구함
+ * 버킷 안은 Leaderboard와 같이 userId 내림차순으로 정렬되어 앞뒤 유저를 바로 찾을 수 있음
+ */
+@Component
+public class XpRankIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final FenwickTree counts = new FenwickTree(INITIAL_CAPACITY);
+
+    // bananaxp -> 해당 경험치의 userId (내림차순)
+    private final Map<Integer, NavigableSet<Long>> buckets = new HashMap<>();
+
+    // userId -> 현재 항목
+    private final Map<Long, LeaderboardEntry> entries = new HashMap<>();
+
+    public XpRankIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("game.rank_index.users", this, XpRankIndex::size)
+                .description("Users tracked by the in-memory XP rank index")
+                .register(meterRegistry);
+    }
+
+    // 유저의 현재 경험치로 갱신 (없으면 추가)
+    public void updateAll(Collection<LeaderboardEntry> updated) {
+        lock.writeLock().lock();
+        try {
+            updated.forEach(this::update);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 경험치는 줄지 않으므로 인덱스 값보다 낮지 않을 때만 갱신 (조회 경로에서 읽은 값이 지급 직후 값을 덮지 않게)
+    public void advance(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            LeaderboardEntry current = entries.get(entry.userId());
+            if (current == null || entry.bananaxp() >= current.bananaxp()) {
+                update(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유저의 순위와 앞뒤 유저 조회
+     * @param range 앞뒤로 가져올 인원 (각각)
+     * @return 인덱스에 없는 유저면 null
+     */
+    public RankSnapshot snapshot(long userId, int range) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry me = entries.get(userId);
+            if (me == null) return null;
+
+            List<RankedEntry> neighbors = new ArrayList<>(range * 2 + 1);
+            collectAbove(me, range, neighbors);
+            Collections.reverse(neighbors);
+
+            RankedEntry mine = ranked(me);
+            neighbors.add(mine);
+            collectBelow(me, range, neighbors);
+
+            return new RankSnapshot(mine, counts.total(), neighbors);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return counts.total();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(LeaderboardEntry entry) {
+        LeaderboardEntry previous = entries.put(entry.userId(), entry);
+        if (previous != null) {
+            if (previous.bananaxp() == entry.bananaxp()) return;
+            removeFromBucket(previous);
+        }
+
+        int xp = Math.max(0, entry.bananaxp());
+        buckets.computeIfAbsent(xp, b -> new TreeSet<>(Comparator.reverseOrder())).add(entry.userId());
+        counts.add(xp, 1);
+    }
+
+    private void removeFromBucket(LeaderboardEntry entry) {
+        int xp = Math.max(0, entry.bananaxp());
+        NavigableSet<Long> bucket = buckets.get(xp);
+        if (bucket == null || !bucket.remove(entry.userId())) return;
+
+        if (bucket.isEmpty()) {
+            buckets.remove(xp);
+        }
+        counts.add(xp, -1);
+    }
+
+    // 본인보다 앞 순위 유저를 가까운 순서로 range명까지
+    private void collectAbove(LeaderboardEntry me, int range, List<RankedEntry> out) {
+        int xp = Math.max(0, me.bananaxp());
+
+        // 같은 경험치 중 userId가 더 큰 유저
+        addFrom(buckets.get(xp).headSet(me.userId(), false).descendingIterator(), range, out);
+
+        // 경험치가 더 높은 버킷 중 가장 가까운 버킷부터 (그 버킷의 마지막 순위 유저부터)
+        while (out.size() < range) {
+            int higher = counts.findByOrder(counts.prefixSum(xp) + 1);
+            if (higher < 0) break;
+
+            addFrom(buckets.get(higher).descendingIterator(), range, out);
+            xp = higher;
+        }
+    }
+
+    // 본인보다 뒤 순위 유저를 가까운 순서로 range명까지
+    private void collectBelow(LeaderboardEntry me, int range, List<RankedEntry> out) {
+        int limit = out.size() + range;
+        int xp = Math.max(0, me.bananaxp());
+
+        addFrom(buckets.get(xp).tailSet(me.userId(), false).iterator(), limit, out);
+
+        // 경험치가 더 낮은 버킷 중 가장 가까운 버킷부터 (그 버킷의 첫 순위 유저부터)
+        while (out.size() < limit) {
+            long below = counts.prefixSum(xp - 1);
+            if (below == 0) break;
+
+            int lower = counts.findByOrder(below);
+            addFrom(buckets.get(lower).iterator(), limit, out);
+            xp = lower;
+        }
+    }
+
+    private void addFrom(Iterator<Long> userIds, int limit, List<RankedEntry> out) {
+        while (out.size() < limit && userIds.hasNext()) {
+            out.add(ranked(entries.get(userIds.next())));
+        }
+    }
+
+    // 순위 = 나보다 경험치가 높은 유저 수 + 1
+    private RankedEntry ranked(LeaderboardEntry entry) {
+        long higher = counts.total() - counts.prefixSum(Math.max(0, entry.bananaxp()));
+        return new RankedEntry(higher + 1, entry);
+    }
+}
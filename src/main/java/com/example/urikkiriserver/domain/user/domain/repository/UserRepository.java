@@ -3,7 +3,6 @@ package com.example.urikkiriserver.domain.user.domain.repository;
 import com.example.urikkiriserver.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -13,6 +12,4 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByEmail(String email);
 
     Boolean existsByNickname(String nickname);
-
-    List<User> findAllByOrderByBananaxpDesc();
 }
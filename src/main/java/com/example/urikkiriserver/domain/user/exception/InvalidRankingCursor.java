@@ -0,0 +1,13 @@
+package com.example.urikkiriserver.domain.user.exception;
+
+import com.example.urikkiriserver.global.error.exception.ErrorCode;
+import com.example.urikkiriserver.global.error.exception.UrikkiriException;
+
+public class InvalidRankingCursor extends UrikkiriException {
+
+    public static final UrikkiriException EXCEPTION = new InvalidRankingCursor();
+
+    private InvalidRankingCursor() {
+        super(ErrorCode.INVALID_RANKING_CURSOR);
+    }
+}
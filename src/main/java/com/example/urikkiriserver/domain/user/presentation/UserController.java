@@ -3,6 +3,7 @@ package com.example.urikkiriserver.domain.user.presentation;
 import com.example.urikkiriserver.domain.user.presentation.dto.request.LoginRequest;
 import com.example.urikkiriserver.domain.user.presentation.dto.request.SignUpRequest;
 import com.example.urikkiriserver.domain.user.presentation.dto.response.MyPageResponse;
+import com.example.urikkiriserver.domain.user.presentation.dto.response.MyRankResponse;
 import com.example.urikkiriserver.domain.user.presentation.dto.response.TokenResponse;
 import com.example.urikkiriserver.domain.user.presentation.dto.response.UserRankingResponse;
 import com.example.urikkiriserver.domain.user.service.*;
@@ -10,7 +11,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/users")
@@ -22,6 +26,8 @@ public class UserController {
     private final LogoutService logoutService;
     private final QueryMyPageService queryMyPageService;
     private final TotalRankingService totalRankingService;
+    private final QueryMyRankService queryMyRankService;
+    private final ExportRankingService exportRankingService;
 
     @PostMapping("/signup")
     @ResponseStatus(HttpStatus.CREATED)
@@ -47,8 +53,23 @@ public class UserController {
         return queryMyPageService.execute();
     }
 
+    @GetMapping("/my/rank")
+    @ResponseStatus(HttpStatus.OK)
+    public MyRankResponse getMyRank(@RequestParam(defaultValue = "2") int range) {
+        return queryMyRankService.execute(range);
+    }
+
     @GetMapping("/who-is-the-king")
-    public UserRankingResponse getUserRanking() {
-        return totalRankingService.getAllUserRanking();
+    public UserRankingResponse getUserRanking(@RequestParam(defaultValue = "50") int size,
+                                              @RequestParam(required = false) String cursor) {
+        return totalRankingService.getUserRanking(size, cursor);
+    }
+
+    // 전체 랭킹을 한 번에 받아야 하는 경우 (목록을 메모리에 만들지 않고 스트리밍)
+    @GetMapping("/who-is-the-king/all")
+    public ResponseEntity<StreamingResponseBody> exportUserRanking() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(exportRankingService::execute);
     }
 }
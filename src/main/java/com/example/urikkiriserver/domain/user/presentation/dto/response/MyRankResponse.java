@@ -0,0 +1,24 @@
+package com.example.urikkiriserver.domain.user.presentation.dto.response;
+
+import com.example.urikkiriserver.domain.user.domain.leaderboard.RankSnapshot;
+
+import java.util.List;
+
+public record MyRankResponse(
+        Long rank,
+        Long totalUsers,
+        Double topPercent,
+        List<RankedUserResponse> neighbors
+) {
+    public static MyRankResponse of(RankSnapshot snapshot) {
+        // 상위 몇 %인지 (소수점 첫째 자리까지)
+        double topPercent = Math.round(snapshot.me().rank() * 1000.0 / snapshot.totalUsers()) / 10.0;
+
+        return new MyRankResponse(
+                snapshot.me().rank(),
+                snapshot.totalUsers(),
+                topPercent,
+                snapshot.neighbors().stream().map(RankedUserResponse::from).toList()
+        );
+    }
+}
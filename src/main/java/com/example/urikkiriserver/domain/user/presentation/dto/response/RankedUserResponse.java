@@ -0,0 +1,19 @@
+package com.example.urikkiriserver.domain.user.presentation.dto.response;
+
+import com.example.urikkiriserver.domain.user.domain.leaderboard.RankedEntry;
+
+public record RankedUserResponse(
+        Long rank,
+        Integer level,
+        String nickname,
+        Integer bananaxp
+) {
+    public static RankedUserResponse from(RankedEntry ranked) {
+        return new RankedUserResponse(
+                ranked.rank(),
+                ranked.entry().level(),
+                ranked.entry().nickname(),
+                ranked.entry().bananaxp()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.urikkiriserver.domain.user.service;
+
+import com.example.urikkiriserver.domain.user.domain.User;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.Leaderboard;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.LeaderboardEntry;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.XpRankIndex;
+import com.example.urikkiriserver.domain.user.domain.repository.UserRepository;
+import com.example.urikkiriserver.global.security.auth.AuthDetailsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AwardXpService {
+
+    // 순위별 경험치 (1위: 20, 2위: 10, 3위: 5, 4위: 2)
+    private static final int[] XP_REWARDS = {20, 10, 5, 2};
+
+    private final UserRepository userRepository;
+    private final Leaderboard leaderboard;
+    private final XpRankIndex xpRankIndex;
+    private final AuthDetailsService authDetailsService;
+
+    /**
+     * 게임 순위대로 경험치 지급 후 랭킹 갱신
+     * @param rankedUserIds 1위부터 순서대로 정렬된 유저 ID
+     * @return userId -> 경험치가 반영된 User
+     */
+    public Map<Long, User> execute(List<Long> rankedUserIds) {
+        Map<Long, User> users = userRepository.findAllById(rankedUserIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<User> rewarded = new ArrayList<>();
+        for (int i = 0; i < rankedUserIds.size() && i < XP_REWARDS.length; i++) {
+            User user = users.get(rankedUserIds.get(i));
+            if (user == null) continue;
+
+            // 경험치 추가 및 레벨 자동 계산
+            user.addXp(XP_REWARDS[i]);
+            rewarded.add(user);
+        }
+
+        userRepository.saveAll(rewarded);
+
+        // 캐시된 인증 정보의 경험치/레벨이 오래된 값이 되지 않도록 제거
+        rewarded.forEach(user -> authDetailsService.evict(user.getEmail()));
+
+        // DB 반영 후 바뀐 유저만 랭킹/순위 인덱스에 갱신
+        List<LeaderboardEntry> entries = rewarded.stream().map(LeaderboardEntry::from).toList();
+        leaderboard.updateAll(entries);
+        xpRankIndex.updateAll(entries);
+        return users;
+    }
+
+    public static int rewardFor(int rank) {
+        return rank >= 1 && rank <= XP_REWARDS.length ? XP_REWARDS[rank - 1] : 0;
+    }
+}
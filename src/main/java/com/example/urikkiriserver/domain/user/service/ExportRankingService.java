@@ -0,0 +1,79 @@
+package com.example.urikkiriserver.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 전체 랭킹을 JSON으로 스트리밍
+ * (bananaxp, id) 인덱스를 따라 BATCH_SIZE씩 keyset 페이지로 읽고, 읽은 행은 바로 응답에 써서
+ * 유저 수와 관계없이 메모리에는 한 페이지만 올라감
+ * 순서는 Leaderboard와 같은 bananaxp 내림차순, 같은 경험치는 id 내림차순
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportRankingService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String FIRST_PAGE =
+            "SELECT id, nickname, level, bananaxp FROM tbl_user " +
+            "ORDER BY bananaxp DESC, id DESC LIMIT ?";
+
+    private static final String NEXT_PAGE =
+            "SELECT id, nickname, level, bananaxp FROM tbl_user " +
+            "WHERE bananaxp < ? OR (bananaxp = ? AND id < ?) " +
+            "ORDER BY bananaxp DESC, id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // {"rankings": [{"level": .., "nickname": .., "bananaxp": ..}, ...]} 형식으로 출력
+    public void execute(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("rankings");
+
+            List<Row> page = jdbcTemplate.query(FIRST_PAGE, Row.MAPPER, BATCH_SIZE);
+            while (!page.isEmpty()) {
+                for (Row row : page) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("level", row.level());
+                    generator.writeStringField("nickname", row.nickname());
+                    generator.writeNumberField("bananaxp", row.bananaxp());
+                    generator.writeEndObject();
+                }
+                // 한 페이지씩 클라이언트로 내보냄
+                generator.flush();
+
+                if (page.size() < BATCH_SIZE) break;
+
+                Row last = page.get(page.size() - 1);
+                page = jdbcTemplate.query(NEXT_PAGE, Row.MAPPER, last.bananaxp(), last.bananaxp(), last.id(), BATCH_SIZE);
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private record Row(long id, String nickname, int level, int bananaxp) {
+
+        static final RowMapper<Row> MAPPER = (rs, rowNum) -> new Row(
+                rs.getLong("id"),
+                rs.getString("nickname"),
+                rs.getInt("level"),
+                rs.getInt("bananaxp")
+        );
+    }
+}
@@ -2,19 +2,17 @@ package com.example.urikkiriserver.domain.user.service;
 
 import com.example.urikkiriserver.global.exception.InvalidJwt;
 import com.example.urikkiriserver.global.security.jwt.JwtProvider;
+import com.example.urikkiriserver.global.security.jwt.TokenBlacklist;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
 @Service
 @RequiredArgsConstructor
 public class LogoutService {
 
     private final JwtProvider jwtProvider;
-    private final StringRedisTemplate redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
 
     public void execute(HttpServletRequest request) {
         String accessToken = jwtProvider.resolveToken(request);
@@ -32,12 +30,11 @@ public class LogoutService {
             return;
         }
 
-        redisTemplate.opsForValue().set(
-                "blacklist:" + accessToken,
-                "logout",
-                ttl,
-                TimeUnit.MILLISECONDS
-        );
+        // 검증 캐시에 남아 있지 않도록 제거
+        jwtProvider.invalidate(accessToken);
+
+        // Redis에 등록하고 다른 서버에도 알림
+        tokenBlacklist.add(accessToken, ttl);
     }
 
 }
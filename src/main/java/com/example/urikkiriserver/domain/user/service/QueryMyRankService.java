@@ -0,0 +1,34 @@
+package com.example.urikkiriserver.domain.user.service;
+
+import com.example.urikkiriserver.domain.user.domain.User;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.LeaderboardEntry;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.RankSnapshot;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.XpRankIndex;
+import com.example.urikkiriserver.domain.user.presentation.dto.response.MyRankResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class QueryMyRankService {
+
+    private static final int MAX_RANGE = 10;
+
+    private final UserFacade userFacade;
+    private final XpRankIndex xpRankIndex;
+
+    /**
+     * 내 순위와 앞뒤 유저 조회
+     * @param range 앞뒤로 보여줄 인원 (각각 0 ~ 10)
+     */
+    public MyRankResponse execute(int range) {
+        User user = userFacade.getCurrentUser();
+
+        // 다른 서버에서 경험치가 바뀌었을 수 있으므로 인증 정보의 값으로 본인 항목을 맞춤
+        // (인증 정보가 오래된 값이거나 동시에 지급된 경험치가 먼저 반영되었으면 더 낮은 값으로 되돌리지 않음)
+        xpRankIndex.advance(LeaderboardEntry.from(user));
+
+        RankSnapshot snapshot = xpRankIndex.snapshot(user.getId(), Math.max(0, Math.min(range, MAX_RANGE)));
+        return MyRankResponse.of(snapshot);
+    }
+}
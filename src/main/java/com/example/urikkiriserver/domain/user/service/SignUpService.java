@@ -1,16 +1,22 @@
 package com.example.urikkiriserver.domain.user.service;
 
 import com.example.urikkiriserver.domain.user.domain.User;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.Leaderboard;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.LeaderboardEntry;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.XpRankIndex;
 import com.example.urikkiriserver.domain.user.domain.repository.UserRepository;
 import com.example.urikkiriserver.domain.user.exception.UserExists;
 import com.example.urikkiriserver.domain.user.presentation.dto.request.SignUpRequest;
 import com.example.urikkiriserver.domain.user.presentation.dto.response.TokenResponse;
 import com.example.urikkiriserver.global.security.jwt.JwtProvider;
+import com.example.urikkiriserver.global.utils.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class SignUpService {
@@ -18,6 +24,8 @@ public class SignUpService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final Leaderboard leaderboard;
+    private final XpRankIndex xpRankIndex;
 
     @Transactional
     public TokenResponse execute(SignUpRequest request) {
@@ -29,7 +37,7 @@ public class SignUpService {
             throw UserExists.EXCEPTION;
         }
 
-        userRepository.save(
+        User user = userRepository.save(
             User.builder()
                 .email(request.email())
                 .nickname(request.nickname())
@@ -39,6 +47,13 @@ public class SignUpService {
                 .build()
         );
 
+        // 새 유저도 랭킹에 바로 표시 (가입이 롤백되면 랭킹에 남지 않도록 커밋 후 반영)
+        List<LeaderboardEntry> entries = List.of(LeaderboardEntry.from(user));
+        TransactionCallbacks.afterCommit(() -> {
+            leaderboard.updateAll(entries);
+            xpRankIndex.updateAll(entries);
+        });
+
         return jwtProvider.createToken(request.email());
     }
 }
@@ -1,6 +1,8 @@
 package com.example.urikkiriserver.domain.user.service;
 
-import com.example.urikkiriserver.domain.user.domain.repository.UserRepository;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.Leaderboard;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.LeaderboardEntry;
+import com.example.urikkiriserver.domain.user.domain.leaderboard.RankingCursor;
 import com.example.urikkiriserver.domain.user.presentation.dto.response.UserRankingResponse;
 import com.example.urikkiriserver.domain.user.presentation.dto.response.UserRankingResponseElement;
 import lombok.RequiredArgsConstructor;
@@ -12,19 +14,30 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TotalRankingService {
 
-    private final UserRepository userRepository;
+    private static final int MAX_PAGE_SIZE = 100;
 
-    public UserRankingResponse getAllUserRanking() {
-        List<UserRankingResponseElement> rankings =
-                userRepository.findAllByOrderByBananaxpDesc()
-                        .stream()
-                        .map(user -> UserRankingResponseElement.of(
-                                user.getLevel(),
-                                user.getNickname(),
-                                user.getBananaxp()
-                        ))
-                        .toList();
+    private final Leaderboard leaderboard;
 
-        return new UserRankingResponse(rankings);
+    /**
+     * 랭킹 한 페이지 조회 (DB 대신 정렬된 랭킹에서 필요한 구간만 읽음)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @param cursor 이전 페이지의 next_cursor (null이면 1위부터)
+     */
+    public UserRankingResponse getUserRanking(int size, String cursor) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        RankingCursor after = cursor != null ? RankingCursor.parse(cursor) : null;
+        List<LeaderboardEntry> page = leaderboard.page(after, limit);
+
+        List<UserRankingResponseElement> rankings = page.stream()
+                .map(entry -> UserRankingResponseElement.of(
+                        entry.level(),
+                        entry.nickname(),
+                        entry.bananaxp()
+                ))
+                .toList();
+
+        // 페이지가 가득 찼으면 마지막 유저의 (경험치, userId)를 다음 커서로 사용
+        String nextCursor = page.size() == limit ? RankingCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new UserRankingResponse(rankings, nextCursor);
     }
 }
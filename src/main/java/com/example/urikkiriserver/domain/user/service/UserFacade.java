@@ -3,6 +3,7 @@ package com.example.urikkiriserver.domain.user.service;
 import com.example.urikkiriserver.domain.user.domain.User;
 import com.example.urikkiriserver.domain.user.domain.repository.UserRepository;
 import com.example.urikkiriserver.domain.user.exception.UserNotFound;
+import com.example.urikkiriserver.global.security.auth.AuthDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +23,12 @@ public class UserFacade {
             throw UserNotFound.EXCEPTION;
         }
 
+        // JwtFilter가 찾아 둔 인증 정보로 이 요청만의 복사본을 만들어 사용 (DB 조회 없음)
+        // 값을 바꿔 저장해야 하는 경로는 이 복사본 대신 엔티티를 직접 조회함 (AwardXpService 등)
+        if (authentication.getPrincipal() instanceof AuthDetails authDetails) {
+            return authDetails.copyUser();
+        }
+
         String email = authentication.getName();
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> UserNotFound.EXCEPTION);
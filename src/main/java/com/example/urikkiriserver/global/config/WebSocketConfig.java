@@ -1,10 +1,14 @@
 package com.example.urikkiriserver.global.config;
 
+import com.example.urikkiriserver.global.websocket.CompressionHandshakeHandler;
 import com.example.urikkiriserver.global.websocket.CustomHandshakeInterceptor;
 import com.example.urikkiriserver.global.websocket.WebSocketHandler;
+import com.example.urikkiriserver.global.websocket.WebSocketProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.*;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
 
 @RequiredArgsConstructor
 @EnableWebSocket
@@ -12,11 +16,26 @@ import org.springframework.web.socket.config.annotation.*;
 public class WebSocketConfig implements WebSocketConfigurer {
     private final WebSocketHandler webSocketHandler;
     private final CustomHandshakeInterceptor customHandshakeInterceptor;
+    private final CompressionHandshakeHandler compressionHandshakeHandler;
+    private final WebSocketProperties webSocketProperties;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         // 웹소켓 엔드포인트: /ws
         // 바꿀 수 있음
-        registry.addHandler(webSocketHandler, "/ws").setAllowedOriginPatterns("*").addInterceptors(customHandshakeInterceptor);
+        // permessage-deflate 협상은 CompressionHandshakeHandler의 정책을 따름
+        registry.addHandler(webSocketHandler, "/ws").setAllowedOriginPatterns("*")
+                .setHandshakeHandler(compressionHandshakeHandler)
+                .addInterceptors(customHandshakeInterceptor);
+    }
+
+    // 컨테이너 단계의 텍스트/바이너리 프레임 크기 제한 (넘으면 버퍼링 없이 1009 코드로 연결 종료)
+    // Tomcat은 텍스트 버퍼를 문자 단위로 잡으므로 텍스트 프레임은 UTF-8 바이트가 아니라 문자 수로 제한됨
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(webSocketProperties.inbound().maxFrameBytes());
+        container.setMaxBinaryMessageBufferSize(webSocketProperties.inbound().maxFrameBytes());
+        return container;
     }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "User Not Found"),
     USER_EXISTS(HttpStatus.CONFLICT, "User Already Exists"),
     PASSWORD_MISMATCH(HttpStatus.BAD_REQUEST, "Password Mismatch"),
+    INVALID_RANKING_CURSOR(HttpStatus.BAD_REQUEST, "Invalid Ranking Cursor"),
 
     // jwt
     EXPIRED_JWT(HttpStatus.UNAUTHORIZED, "Expired JWT"),
@@ -22,6 +23,7 @@ public enum ErrorCode {
     // websocket
     WEBSOCKET_AUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED, "WebSocket Authentication Required"),
     WEBSOCKET_INVALID_MESSAGE_FORMAT(HttpStatus.BAD_REQUEST, "Invalid WebSocket Message Format"),
+    WEBSOCKET_MESSAGE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "WebSocket Message Too Large"),
     WEBSOCKET_ROOM_CODE_REQUIRED(HttpStatus.BAD_REQUEST, "Room Code is Required"),
     WEBSOCKET_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "Room Not Found"),
     WEBSOCKET_NOT_PARTICIPANT(HttpStatus.FORBIDDEN, "You are not a participant of this room"),
@@ -34,6 +36,7 @@ public enum ErrorCode {
     PARTICIPANT_NOT_FOUND(HttpStatus.NOT_FOUND, "Participant Not Found"),
     EXAMINER_NOT_FOUND(HttpStatus.NOT_FOUND, "Examiner Not Found"),
     EXAMINER_CANNOT_SUBMIT_CARD(HttpStatus.FORBIDDEN, "Examiner Cannot Submit Card"),
+    ROOM_CODE_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "No Room Code Available"),
 
     // quiz
     QUIZ_NOT_FOUND(HttpStatus.NOT_FOUND, "Quiz Not Found"),
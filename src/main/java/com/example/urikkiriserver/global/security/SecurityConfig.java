@@ -3,6 +3,7 @@ package com.example.urikkiriserver.global.security;
 import com.example.urikkiriserver.global.error.ExceptionFilter;
 import com.example.urikkiriserver.global.security.jwt.JwtFilter;
 import com.example.urikkiriserver.global.security.jwt.JwtProvider;
+import com.example.urikkiriserver.global.security.jwt.TokenBlacklist;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -31,6 +32,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
+    private final TokenBlacklist tokenBlacklist;
     private final ObjectMapper objectMapper;
 
     @Bean
@@ -58,7 +60,8 @@ public class SecurityConfig {
                     ).permitAll()
                     .requestMatchers(
                             HttpMethod.GET,
-                            "/users/who-is-the-king"
+                            "/users/who-is-the-king",
+                            "/users/who-is-the-king/all"
                     ).permitAll()
                     .anyRequest().authenticated()
                 )
@@ -82,7 +85,7 @@ public class SecurityConfig {
                         ));
                     })
             )
-            .addFilterBefore(new JwtFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(new JwtFilter(jwtProvider, tokenBlacklist), UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(new ExceptionFilter(objectMapper), JwtFilter.class)
             .build();
     }
@@ -1,17 +1,20 @@
 package com.example.urikkiriserver.global.security.auth;
 
 import com.example.urikkiriserver.domain.user.domain.User;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
 
-@RequiredArgsConstructor
 public class AuthDetails implements UserDetails {
 
-    private final User user;
+    // 캐시되어 여러 스레드가 함께 보므로 엔티티가 아닌 불변 값으로 보관
+    private final UserSnapshot user;
+
+    public AuthDetails(User user) {
+        this.user = UserSnapshot.from(user);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -25,7 +28,7 @@ public class AuthDetails implements UserDetails {
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return user.email();
     }
 
     @Override
@@ -48,7 +51,12 @@ public class AuthDetails implements UserDetails {
         return true;
     }
 
-    public User getUser() {
+    public UserSnapshot getUserSnapshot() {
         return user;
     }
+
+    // 호출한 요청/연결만 쓰는 User 복사본
+    public User copyUser() {
+        return user.toUser();
+    }
 }
@@ -1,22 +1,88 @@
 package com.example.urikkiriserver.global.security.auth;
 
 import com.example.urikkiriserver.domain.user.domain.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.urikkiriserver.global.utils.ExpiringCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 @Service
-@RequiredArgsConstructor
 public class AuthDetailsService implements UserDetailsService {
 
+    private static final long PRINCIPAL_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final int PRINCIPAL_CACHE_SIZE = 50_000;
+
     private final UserRepository userRepository;
 
+    // email -> 인증된 사용자 (경험치/레벨이 바뀌면 evict로 제거, 다른 서버에서 바뀐 값은 TTL 후 반영)
+    private final ExpiringCache<String, AuthDetails> principals = new ExpiringCache<>(PRINCIPAL_CACHE_SIZE);
+
+    // email -> 진행 중인 DB 조회 (재접속이 몰려도 같은 사용자는 한 번만 조회하고 나머지는 결과를 기다림)
+    private final Map<String, CompletableFuture<AuthDetails>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter databaseLoads;
+    private final Counter mergedLoads;
+
+    public AuthDetailsService(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.databaseLoads = Counter.builder("security.principal.loads").tag("source", "database")
+                .description("Principal cache misses that queried the database").register(meterRegistry);
+        this.mergedLoads = Counter.builder("security.principal.loads").tag("source", "merged")
+                .description("Principal cache misses that waited for a concurrent query").register(meterRegistry);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
-            .map(AuthDetails::new)
-            .orElseThrow(() -> new UsernameNotFoundException(email));
+        AuthDetails cached = principals.get(email);
+        if (cached != null) return cached;
+
+        CompletableFuture<AuthDetails> mine = new CompletableFuture<>();
+        CompletableFuture<AuthDetails> existing = inFlight.putIfAbsent(email, mine);
+        if (existing != null) {
+            mergedLoads.increment();
+            return await(existing);
+        }
+
+        try {
+            // 먼저 조회를 끝낸 요청이 방금 캐시에 넣었을 수 있음
+            AuthDetails loaded = principals.get(email);
+            if (loaded == null) {
+                databaseLoads.increment();
+                loaded = userRepository.findByEmail(email)
+                    .map(AuthDetails::new)
+                    .orElseThrow(() -> new UsernameNotFoundException(email));
+                principals.put(email, loaded, System.currentTimeMillis() + PRINCIPAL_TTL_MILLIS);
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(email, mine);
+        }
+    }
+
+    // 사용자 정보가 바뀌었을 때 캐시된 인증 정보 제거
+    public void evict(String email) {
+        principals.invalidate(email);
+    }
+
+    private static AuthDetails await(CompletableFuture<AuthDetails> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
     }
 }
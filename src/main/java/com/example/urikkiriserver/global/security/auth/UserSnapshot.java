@@ -0,0 +1,31 @@
+package com.example.urikkiriserver.global.security.auth;
+
+import com.example.urikkiriserver.domain.user.domain.User;
+
+/**
+ * 인증 캐시에 보관하는 사용자 값 (불변)
+ * 캐시된 인증 정보는 여러 요청/연결이 함께 쓰므로 엔티티 대신 이 값을 두고,
+ * 필요한 쪽에는 toUser()로 그 요청/연결만의 User 복사본을 만들어 줌
+ */
+public record UserSnapshot(
+        long id,
+        String email,
+        String nickname,
+        int level,
+        int bananaxp
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getEmail(), user.getNickname(), user.getLevel(), user.getBananaxp());
+    }
+
+    // 영속성 컨텍스트와 무관한 새 User (비밀번호는 담지 않음, 저장이 필요한 경로는 엔티티를 직접 조회해야 함)
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .nickname(nickname)
+                .level(level)
+                .bananaxp(bananaxp)
+                .build();
+    }
+}
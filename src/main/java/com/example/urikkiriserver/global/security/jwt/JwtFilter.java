@@ -17,6 +17,7 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(
@@ -27,7 +28,11 @@ public class JwtFilter extends OncePerRequestFilter {
 
         String parseToken = jwtProvider.resolveToken(request);
 
-        if (parseToken != null) {
+        // 로그아웃한 토큰은 인증하지 않음
+        if (parseToken != null && tokenBlacklist.isBlacklisted(parseToken)) {
+            log.info("Rejected blacklisted JWT");
+            SecurityContextHolder.clearContext();
+        } else if (parseToken != null) {
             try {
                 Authentication authentication = jwtProvider.authentication(parseToken);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -4,7 +4,10 @@ import com.example.urikkiriserver.domain.user.presentation.dto.response.TokenRes
 import com.example.urikkiriserver.global.exception.ExpiredJwt;
 import com.example.urikkiriserver.global.exception.InvalidJwt;
 import com.example.urikkiriserver.global.security.auth.AuthDetailsService;
+import com.example.urikkiriserver.global.utils.ExpiringCache;
+import com.example.urikkiriserver.global.utils.Sha256;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,13 +28,23 @@ public class JwtProvider {
     private final JwtProperties jwtProperties;
     private final AuthDetailsService authDetailsService;
     private final SecretKeySpec secretKeySpec;
+    private final JwtParser jwtParser;
+
+    // 토큰 SHA-256 -> 검증 결과 (토큰 만료 시각까지 보관, 같은 토큰은 서명 검증을 다시 하지 않음)
+    private final ExpiringCache<String, VerifiedToken> verifiedTokens = new ExpiringCache<>(VERIFIED_TOKEN_CACHE_SIZE);
 
     private static final String ACCESS_TOKEN = "access";
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 100_000;
 
     public JwtProvider(JwtProperties jwtProperties, AuthDetailsService authDetailsService) {
         this.jwtProperties = jwtProperties;
         this.authDetailsService = authDetailsService;
         this.secretKeySpec = new SecretKeySpec(jwtProperties.secretKey().getBytes(), SignatureAlgorithm.HS256.getJcaName());
+
+        // 파서는 스레드 안전하므로 한 번만 생성
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(secretKeySpec)
+            .build();
     }
 
     public String generateToken(String accountId, String type, Long exp) {
@@ -69,9 +82,7 @@ public class JwtProvider {
 
     private Claims getClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(secretKeySpec)
-                .build()
+            return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
@@ -83,16 +94,29 @@ public class JwtProvider {
         }
     }
 
-    private String getTokenSubject(String token) {
-        return getClaims(token).getSubject();
+    // 서명/만료 검증 (이미 검증한 토큰은 캐시에서 바로 반환)
+    public VerifiedToken verify(String token) {
+        String key = Sha256.hex(token);
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) return cached;
+
+        Claims claims = getClaims(token);
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime());
+        verifiedTokens.put(key, verified, verified.expiresAtMillis());
+        return verified;
+    }
+
+    // 로그아웃 등으로 더 이상 쓰지 않는 토큰을 캐시에서 제거
+    public void invalidate(String token) {
+        verifiedTokens.invalidate(Sha256.hex(token));
     }
 
     public Date getExpiration(String token) {
-        return getClaims(token).getExpiration();
+        return new Date(verify(token).expiresAtMillis());
     }
 
     public Authentication authentication(String token) {
-        String email = getTokenSubject(token);
+        String email = verify(token).subject();
         UserDetails userDetails = authDetailsService.loadUserByUsername(email);
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
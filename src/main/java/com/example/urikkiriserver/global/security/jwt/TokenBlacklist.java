@@ -0,0 +1,177 @@
+package com.example.urikkiriserver.global.security.jwt;
+
+import com.example.urikkiriserver.global.utils.BloomFilter;
+import com.example.urikkiriserver.global.utils.ExpiringCache;
+import com.example.urikkiriserver.global.utils.Sha256;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃된 토큰 목록 (Redis blacklist:<token> 키가 기준)
+ * 매 요청마다 Redis에 묻지 않도록 로컬에서 두 단계로 먼저 거름
+ * 1. Bloom filter: 블랙리스트에 없는 토큰(대부분의 요청)은 여기서 바로 통과
+ * 2. near-cache: Bloom filter가 "있을 수도 있음"이라고 한 토큰의 Redis 조회 결과를 잠시 보관
+ * 다른 서버에서 로그아웃한 토큰은 Redis pub/sub으로 해시를 받아 Bloom filter에 추가함
+ * Bloom filter는 삭제가 안 되므로 토큰 유효 시간마다 세대를 교체하고 직전 세대까지만 확인함
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String CHANNEL = "urikkiri:blacklist";
+
+    private static final long BLOOM_BITS = 1L << 21;     // 세대당 256KB (토큰 약 20만 개에서 오탐 1% 수준)
+    private static final int BLOOM_HASHES = 7;
+    private static final int NEAR_CACHE_SIZE = 10_000;
+    private static final long NEGATIVE_TTL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long generationMillis;    // 토큰 유효 시간
+
+    private volatile BloomFilter current = newBloomFilter();
+    private volatile BloomFilter previous = newBloomFilter();
+    private volatile long generationStartedAt = System.currentTimeMillis();
+
+    // 토큰 해시 -> Redis 조회 결과
+    private final ExpiringCache<String, Boolean> nearCache = new ExpiringCache<>(NEAR_CACHE_SIZE);
+
+    private final Counter bloomPassed;
+    private final Counter nearCacheHits;
+    private final Counter redisLookups;
+
+    public TokenBlacklist(StringRedisTemplate redisTemplate, JwtProperties jwtProperties,
+                          RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.generationMillis = TimeUnit.SECONDS.toMillis(jwtProperties.accessExp());
+
+        this.bloomPassed = Counter.builder("security.blacklist.lookups").tag("source", "bloom")
+                .description("Blacklist checks answered by the Bloom filter").register(meterRegistry);
+        this.nearCacheHits = Counter.builder("security.blacklist.lookups").tag("source", "near_cache")
+                .description("Blacklist checks answered by the near-cache").register(meterRegistry);
+        this.redisLookups = Counter.builder("security.blacklist.lookups").tag("source", "redis")
+                .description("Blacklist checks that queried Redis").register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 시작 시 Redis에 남아 있는 블랙리스트를 Bloom filter에 반영
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int loaded = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                addLocal(Sha256.hex(keys.next().substring(KEY_PREFIX.length())));
+                loaded++;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to load token blacklist from Redis: {}", e.getMessage());
+        }
+        log.info("Loaded {} blacklisted tokens into Bloom filter", loaded);
+    }
+
+    // 로그아웃한 토큰 등록 (ttlMillis = 토큰 남은 유효 시간)
+    public void add(String token, long ttlMillis) {
+        String hash = Sha256.hex(token);
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + token, "logout", ttlMillis, TimeUnit.MILLISECONDS);
+        addLocal(hash);
+        nearCache.put(hash, true, System.currentTimeMillis() + ttlMillis);
+
+        // 다른 서버에 알림 (토큰 원문 대신 해시만 전송)
+        redisTemplate.convertAndSend(CHANNEL, hash);
+    }
+
+    public boolean isBlacklisted(String token) {
+        String hash = Sha256.hex(token);
+        if (!mightContain(hash)) {
+            bloomPassed.increment();
+            return false;
+        }
+
+        Boolean cached = nearCache.get(hash);
+        if (cached != null) {
+            nearCacheHits.increment();
+            return cached;
+        }
+
+        redisLookups.increment();
+        boolean blacklisted;
+        try {
+            blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + token));
+        } catch (DataAccessException e) {
+            // Redis 장애 시에는 로그인 상태를 유지 (이전과 같은 동작)
+            log.warn("Failed to check token blacklist: {}", e.getMessage());
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        nearCache.put(hash, blacklisted, now + (blacklisted ? generationMillis : NEGATIVE_TTL_MILLIS));
+        return blacklisted;
+    }
+
+    // 다른 서버에서 로그아웃한 토큰의 해시 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String hash = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (hash.length() != 64) return;
+
+        addLocal(hash);
+        // "블랙리스트 아님"으로 캐시된 결과가 있으면 제거하여 다음 조회 때 Redis에서 확인
+        nearCache.invalidate(hash);
+    }
+
+    private void addLocal(String hash) {
+        rotateIfNeeded();
+        current.add(h1(hash), h2(hash));
+    }
+
+    private boolean mightContain(String hash) {
+        rotateIfNeeded();
+        long h1 = h1(hash);
+        long h2 = h2(hash);
+        return current.mightContain(h1, h2) || previous.mightContain(h1, h2);
+    }
+
+    // 토큰 유효 시간이 지나면 세대 교체 (직전 세대에 있던 토큰은 모두 만료된 상태)
+    private void rotateIfNeeded() {
+        if (System.currentTimeMillis() - generationStartedAt < generationMillis) return;
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now - generationStartedAt < generationMillis) return;
+
+            previous = current;
+            current = newBloomFilter();
+            generationStartedAt = now;
+        }
+    }
+
+    private static BloomFilter newBloomFilter() {
+        return new BloomFilter(BLOOM_BITS, BLOOM_HASHES);
+    }
+
+    private static long h1(String hash) {
+        return Long.parseUnsignedLong(hash, 0, 16, 16);
+    }
+
+    private static long h2(String hash) {
+        return Long.parseUnsignedLong(hash, 16, 32, 16) | 1;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.urikkiriserver.global.security.jwt;
+
+// 서명/만료 검증을 통과한 토큰의 내용
+public record VerifiedToken(
+        String subject,
+        long expiresAtMillis
+) {
+}
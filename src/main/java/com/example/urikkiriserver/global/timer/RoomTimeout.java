@@ -0,0 +1,59 @@
+package com.example.urikkiriserver.global.timer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RoomTimerService에 예약된 지연 작업 하나
+ * cancel()은 어느 스레드에서나 호출할 수 있으며, 취소된 작업은 휠이 해당 슬롯을 지날 때 정리됨
+ */
+public class RoomTimeout {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final RoomTimerService timerService;
+    private final String roomCode;
+    private final Runnable task;
+    private final long deadlineNanos;   // 휠 시작 시각 기준 만료 시각
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+
+    // 만료까지 남은 휠 회전 수 (휠 스레드에서만 접근)
+    long remainingRounds;
+
+    RoomTimeout(RoomTimerService timerService, String roomCode, Runnable task, long deadlineNanos) {
+        this.timerService = timerService;
+        this.roomCode = roomCode;
+        this.task = task;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public String getRoomCode() {
+        return roomCode;
+    }
+
+    // 아직 실행되지 않은 작업이면 취소하고 true
+    public boolean cancel() {
+        if (!state.compareAndSet(PENDING, CANCELLED)) return false;
+
+        timerService.onFinished(this);
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return state.get() == CANCELLED;
+    }
+
+    long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    // 휠 스레드에서 만료 처리, 이미 취소된 작업이면 false
+    boolean expire() {
+        if (!state.compareAndSet(PENDING, EXPIRED)) return false;
+
+        timerService.onFinished(this);
+        task.run();
+        return true;
+    }
+}
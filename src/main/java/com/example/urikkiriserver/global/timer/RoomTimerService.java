@@ -0,0 +1,158 @@
+package com.example.urikkiriserver.global.timer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 방 단위 지연 이벤트(GAME_READY, 카운트다운 등)를 위한 공용 타이머 (hashed timing wheel)
+ * 스레드 하나가 TICK 간격으로 휠을 돌며 만료된 작업을 실행하므로,
+ * 방마다 스레드를 만들어 sleep 하지 않아도 됨
+ * 예약된 작업은 휠 스레드에서 실행되므로 짧게 끝나야 함 (블로킹 작업은 다른 실행기로 넘길 것)
+ */
+@Slf4j
+@Component
+public class RoomTimerService {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int WHEEL_SIZE = 512;    // 2의 거듭제곱 (한 바퀴 = 51.2초)
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    @SuppressWarnings("unchecked")
+    private final List<RoomTimeout>[] wheel = new List[WHEEL_SIZE];
+
+    // 다른 스레드에서 예약한 작업은 큐에 넣고, 휠 스레드가 매 틱마다 슬롯으로 옮김
+    private final Queue<RoomTimeout> newTimeouts = new ConcurrentLinkedQueue<>();
+
+    // roomCode -> 해당 방에 예약된 작업들 (방 정리 시 일괄 취소용)
+    private final Map<String, Set<RoomTimeout>> timeoutsByRoom = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final long startTime = System.nanoTime();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public RoomTimerService(MeterRegistry meterRegistry) {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+
+        Gauge.builder("game.timers.pending", pendingCount, AtomicInteger::get)
+                .description("Room timers scheduled but not yet fired or cancelled")
+                .register(meterRegistry);
+
+        this.worker = new Thread(this::run, "room-timer-wheel");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 방에 지연 작업 예약
+     * @param roomCode 작업이 속한 방 (cancelAll로 한 번에 취소 가능)
+     * @param task 휠 스레드에서 실행될 작업
+     */
+    public RoomTimeout schedule(String roomCode, long delay, TimeUnit unit, Runnable task) {
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        RoomTimeout timeout = new RoomTimeout(this, roomCode, task, deadline);
+
+        pendingCount.incrementAndGet();
+        timeoutsByRoom.compute(roomCode, (code, timeouts) -> {
+            Set<RoomTimeout> roomTimeouts = timeouts != null ? timeouts : ConcurrentHashMap.newKeySet();
+            roomTimeouts.add(timeout);
+            return roomTimeouts;
+        });
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    // 방에 예약된 모든 작업 취소 (방이 비었을 때 등)
+    public void cancelAll(String roomCode) {
+        Set<RoomTimeout> timeouts = timeoutsByRoom.remove(roomCode);
+        if (timeouts == null) return;
+
+        timeouts.forEach(RoomTimeout::cancel);
+    }
+
+    // 실행/취소되지 않고 대기 중인 작업 수
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+    }
+
+    void onFinished(RoomTimeout timeout) {
+        pendingCount.decrementAndGet();
+        timeoutsByRoom.computeIfPresent(timeout.getRoomCode(), (code, timeouts) -> {
+            timeouts.remove(timeout);
+            return timeouts.isEmpty() ? null : timeouts;
+        });
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            waitForNextTick(tick);
+            if (!running) break;
+
+            transferNewTimeouts(tick);
+            expireTimeouts(wheel[(int) (tick & MASK)]);
+            tick++;
+        }
+    }
+
+    private void waitForNextTick(long tick) {
+        long deadline = startTime + TICK_NANOS * (tick + 1);
+        long sleepNanos;
+        while (running && (sleepNanos = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+    }
+
+    private void transferNewTimeouts(long currentTick) {
+        RoomTimeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) continue;
+
+            long calculated = timeout.getDeadlineNanos() / TICK_NANOS;
+            timeout.remainingRounds = (calculated - currentTick) / WHEEL_SIZE;
+
+            // 이미 지난 시각이면 현재 틱에서 바로 실행
+            long ticks = Math.max(calculated, currentTick);
+            wheel[(int) (ticks & MASK)].add(timeout);
+        }
+    }
+
+    private void expireTimeouts(List<RoomTimeout> slot) {
+        slot.removeIf(timeout -> {
+            if (timeout.isCancelled()) return true;
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                return false;
+            }
+
+            try {
+                timeout.expire();
+            } catch (Exception e) {
+                log.error("Room timer task failed in room {}", timeout.getRoomCode(), e);
+            }
+            return true;
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.urikkiriserver.global.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 Bloom filter (추가만 가능, 삭제 불가)
+ * mightContain이 false면 확실히 없는 값이고, true면 있을 수도 있는 값 (오탐 가능)
+ * 원소 대신 미리 계산된 128비트 해시(h1, h2)를 받아 double hashing으로 비트 위치를 구함
+ * 여러 스레드에서 동시에 add/mightContain 해도 안전함
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param bitCount 비트 수 (64의 배수로 올림)
+     * @param hashCount 원소당 설정할 비트 수
+     */
+    public BloomFilter(long bitCount, int hashCount) {
+        int wordCount = (int) ((bitCount + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = hashCount;
+    }
+
+    public void add(long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << (bit & 63);
+
+            long current;
+            while (((current = words.get(word)) & mask) == 0) {
+                if (words.compareAndSet(word, current, current | mask)) break;
+            }
+        }
+    }
+
+    public boolean mightContain(long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) return false;
+        }
+        return true;
+    }
+}
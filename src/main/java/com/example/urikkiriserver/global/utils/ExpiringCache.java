@@ -0,0 +1,68 @@
+package com.example.urikkiriserver.global.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 항목마다 만료 시각을 가지는 크기 제한 캐시
+ * 만료된 항목은 조회 시 제거하고, 가득 찼을 때 한꺼번에 정리함
+ * 정리 후에도 가득 차 있으면 새 항목은 저장하지 않음 (호출하는 쪽은 캐시 없이 원래 경로로 처리)
+ */
+public final class ExpiringCache<K, V> {
+
+    private static final long PURGE_INTERVAL_MILLIS = 1000;
+
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgeAt = new AtomicLong();
+
+    public ExpiringCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // 만료되지 않은 값, 없으면 null
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * @param expiresAtMillis 만료 시각 (epoch millis, 이미 지났으면 저장하지 않음)
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) return;
+
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            purgeExpired(now);
+            if (entries.size() >= maxSize) return;
+        }
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 가득 찬 상태에서 put이 몰려도 전체 순회는 PURGE_INTERVAL_MILLIS에 한 번만
+    private void purgeExpired(long now) {
+        long last = lastPurgeAt.get();
+        if (now - last < PURGE_INTERVAL_MILLIS || !lastPurgeAt.compareAndSet(last, now)) return;
+
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
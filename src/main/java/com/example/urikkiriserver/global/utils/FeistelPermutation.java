@@ -0,0 +1,83 @@
+package com.example.urikkiriserver.global.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * [0, size) 범위의 키 기반 의사 난수 순열 (Feistel 네트워크 + cycle-walking)
+ * 순열 전체를 배열로 만들지 않고 permute(i)로 i번째 값을 O(1)에 계산하므로,
+ * 방마다 "겹치지 않는 무작위 순서"가 필요할 때 키(seed)와 위치만 보관하면 됨
+ */
+public final class FeistelPermutation {
+
+    private static final int ROUNDS = 4;
+    private static final int MAX_BITS = 30;
+
+    private final int size;
+    private final int halfBits;
+    private final int halfMask;
+    private final int[] roundKeys = new int[ROUNDS];
+
+    /**
+     * @param size 순열 크기 (1 이상, 2^30 이하)
+     * @param seed 순서를 결정하는 키 (같은 size/seed면 항상 같은 순열)
+     */
+    public FeistelPermutation(int size, long seed) {
+        if (size <= 0 || size > (1 << MAX_BITS)) {
+            throw new IllegalArgumentException("Permutation size out of range: " + size);
+        }
+
+        // size-1을 표현할 수 있는 짝수 비트 수 (좌우 절반으로 나누기 위함)
+        int bits = Math.max(2, 32 - Integer.numberOfLeadingZeros(size - 1));
+        if ((bits & 1) == 1) bits++;
+
+        this.size = size;
+        this.halfBits = bits / 2;
+        this.halfMask = (1 << halfBits) - 1;
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = random.nextInt();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * index번째 순열 값 (서로 다른 index는 항상 서로 다른 값으로 매핑됨)
+     * @param index 0 이상 size 미만
+     */
+    public int permute(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for size " + size);
+        }
+
+        // 2의 거듭제곱 범위에서 암호화한 뒤, size 밖으로 나가면 다시 암호화 (평균 4회 이내)
+        int value = index;
+        do {
+            value = encrypt(value);
+        } while (value >= size);
+        return value;
+    }
+
+    private int encrypt(int value) {
+        int left = value >>> halfBits;
+        int right = value & halfMask;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            int next = left ^ (mix(right, roundKeys[round]) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private static int mix(int value, int key) {
+        int h = (value ^ key) * 0x9E3779B9;
+        h ^= h >>> 15;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.urikkiriserver.global.utils;
+
+/**
+ * [0, capacity) 위치별 개수를 관리하는 Fenwick 트리 (binary indexed tree)
+ * 구간 합과 "k번째 원소가 있는 위치" 찾기를 O(log n)에 처리하며,
+ * 범위를 넘는 위치가 들어오면 2배씩 늘려 다시 구성함
+ * 동기화는 호출하는 쪽에서 담당
+ */
+public final class FenwickTree {
+
+    private long[] tree;    // 1-based
+    private long total;
+
+    public FenwickTree(int capacity) {
+        this.tree = new long[Integer.highestOneBit(Math.max(1, capacity - 1)) * 2 + 1];
+    }
+
+    public int capacity() {
+        return tree.length - 1;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    // index 위치에 delta 더하기
+    public void add(int index, long delta) {
+        if (index < 0) throw new IllegalArgumentException("Negative index: " + index);
+        if (index >= capacity()) grow(index + 1);
+
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+        total += delta;
+    }
+
+    // [0, index] 구간 합 (index < 0이면 0, 범위를 넘으면 전체 합)
+    public long prefixSum(int index) {
+        if (index < 0) return 0;
+        if (index >= capacity()) return total;
+
+        long sum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // prefixSum(i) >= k 인 가장 작은 i (k는 1부터, 합이 k보다 작으면 -1)
+    public int findByOrder(long k) {
+        if (k <= 0 || k > total) return -1;
+
+        int position = 0;
+        for (int step = Integer.highestOneBit(capacity()); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] < k) {
+                position = next;
+                k -= tree[position];
+            }
+        }
+        return position;
+    }
+
+    // 용량을 2의 거듭제곱으로 늘리고 기존 값으로 다시 구성
+    private void grow(int required) {
+        int capacity = capacity();
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+
+        long[] counts = new long[capacity];
+        for (int i = 0; i < capacity(); i++) {
+            counts[i] = prefixSum(i) - prefixSum(i - 1);
+        }
+
+        long[] rebuilt = new long[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            rebuilt[i] += counts[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                rebuilt[parent] += rebuilt[i];
+            }
+        }
+        this.tree = rebuilt;
+    }
+}
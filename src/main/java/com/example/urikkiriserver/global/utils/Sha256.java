@@ -0,0 +1,23 @@
+package com.example.urikkiriserver.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 토큰 등 민감한 문자열을 캐시/메시지 키로 쓸 때 원문 대신 사용하는 SHA-256 해시
+public final class Sha256 {
+
+    private Sha256() {
+    }
+
+    // 64자리 소문자 16진수 문자열
+    public static String hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
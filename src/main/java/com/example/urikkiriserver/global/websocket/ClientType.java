@@ -1,9 +1,10 @@
 package com.example.urikkiriserver.global.websocket;
 
 /**
- * WebSocket 클라이언트의 타입을 구분
+ * WebSocket 클라이언트의 타입(역할)을 구분
  * LOBBY: 방 생성/참여 등 로비 기능을 사용하는 프론트엔드 클라이언트
  * GAME: 실제 게임 플레이를 위한 게임 클라이언트
+ * 로비 연결에서 CONNECT_GAME을 보내면 새 소켓 없이 같은 연결이 GAME 역할도 가짐
  */
 public enum ClientType {
     LOBBY,      // 프론트엔드 (방 생성, 참여)
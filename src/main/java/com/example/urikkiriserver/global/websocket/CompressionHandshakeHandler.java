@@ -0,0 +1,19 @@
+package com.example.urikkiriserver.global.websocket;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+/**
+ * permessage-deflate 협상 정책을 적용하는 핸드셰이크 핸들러
+ * Tomcat은 확장 협상을 Spring이 고른 확장 목록이 아니라 요청 헤더와 자체 PerMessageDeflate로 다시 하므로,
+ * 정책은 업그레이드 시 넘기는 ServerEndpointConfig의 Configurator(CompressionUpgradeStrategy)에서 적용함
+ */
+@Component
+public class CompressionHandshakeHandler extends DefaultHandshakeHandler {
+
+    public static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    public CompressionHandshakeHandler(WebSocketProperties webSocketProperties) {
+        super(new CompressionUpgradeStrategy(webSocketProperties.compression()));
+    }
+}
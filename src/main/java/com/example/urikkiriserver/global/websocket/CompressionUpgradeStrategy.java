@@ -0,0 +1,190 @@
+package com.example.urikkiriserver.global.websocket;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.websocket.Decoder;
+import jakarta.websocket.Encoder;
+import jakarta.websocket.Extension;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerEndpointConfig;
+import org.springframework.web.socket.server.standard.StandardWebSocketUpgradeStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * permessage-deflate 정책을 컨테이너 확장 협상에 적용하는 업그레이드 전략
+ * Tomcat은 업그레이드할 때 ServerEndpointConfig의 Configurator#getNegotiatedExtensions로 응답할 확장을 정하고
+ * 그 결과의 파라미터로 압축 방식을 만듦 (Spring이 거른 확장 목록은 이 단계에서 다시 쓰이지 않음)
+ * 그래서 Spring이 만든 설정을 감싸 협상 결과만 정책에 맞게 바꾸고 나머지는 원래 Configurator에 맡김
+ * - enabled=false: permessage-deflate를 협상 결과에서 뺌
+ * - context takeover를 끄면 클라이언트 제안마다 no_context_takeover 파라미터를 붙여 컨테이너가 그대로 수락하게 함
+ *   (no_context_takeover면 메시지마다 압축 사전을 초기화하여 압축률 대신 상대측 윈도우 메모리를 아낌)
+ */
+public class CompressionUpgradeStrategy extends StandardWebSocketUpgradeStrategy {
+
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+
+    private final WebSocketProperties.Compression properties;
+
+    public CompressionUpgradeStrategy(WebSocketProperties.Compression properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void upgradeHttpToWebSocket(HttpServletRequest request, HttpServletResponse response,
+                                          ServerEndpointConfig endpointConfig, Map<String, String> pathParams) throws Exception {
+        super.upgradeHttpToWebSocket(request, response, new PolicyEndpointConfig(endpointConfig, properties), pathParams);
+    }
+
+    // Configurator만 바꾸고 나머지는 Spring이 만든 설정을 그대로 돌려줌
+    private static final class PolicyEndpointConfig implements ServerEndpointConfig {
+
+        private final ServerEndpointConfig delegate;
+        private final Configurator configurator;
+
+        PolicyEndpointConfig(ServerEndpointConfig delegate, WebSocketProperties.Compression properties) {
+            this.delegate = delegate;
+            this.configurator = new PolicyConfigurator(delegate.getConfigurator(), properties);
+        }
+
+        @Override
+        public Class<?> getEndpointClass() {
+            return delegate.getEndpointClass();
+        }
+
+        @Override
+        public String getPath() {
+            return delegate.getPath();
+        }
+
+        @Override
+        public List<String> getSubprotocols() {
+            return delegate.getSubprotocols();
+        }
+
+        @Override
+        public List<Extension> getExtensions() {
+            return delegate.getExtensions();
+        }
+
+        @Override
+        public Configurator getConfigurator() {
+            return configurator;
+        }
+
+        @Override
+        public List<Class<? extends Encoder>> getEncoders() {
+            return delegate.getEncoders();
+        }
+
+        @Override
+        public List<Class<? extends Decoder>> getDecoders() {
+            return delegate.getDecoders();
+        }
+
+        @Override
+        public Map<String, Object> getUserProperties() {
+            return delegate.getUserProperties();
+        }
+    }
+
+    private static final class PolicyConfigurator extends ServerEndpointConfig.Configurator {
+
+        private final ServerEndpointConfig.Configurator delegate;
+        private final WebSocketProperties.Compression properties;
+
+        PolicyConfigurator(ServerEndpointConfig.Configurator delegate, WebSocketProperties.Compression properties) {
+            this.delegate = delegate;
+            this.properties = properties;
+        }
+
+        @Override
+        public List<Extension> getNegotiatedExtensions(List<Extension> installed, List<Extension> requested) {
+            List<Extension> negotiated = delegate.getNegotiatedExtensions(installed, requested);
+
+            List<Extension> result = new ArrayList<>(negotiated.size());
+            for (Extension extension : negotiated) {
+                if (!CompressionHandshakeHandler.PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName())) {
+                    result.add(extension);
+                } else if (properties.enabled()) {
+                    // 클라이언트가 여러 설정을 제안할 수 있으므로 제안마다 같은 정책을 붙이고, 선택은 컨테이너에 맡김
+                    result.add(applyContextTakeover(extension));
+                }
+            }
+            return result;
+        }
+
+        private Extension applyContextTakeover(Extension extension) {
+            List<Extension.Parameter> parameters = new ArrayList<>(extension.getParameters());
+            if (!properties.serverContextTakeover()) {
+                addIfAbsent(parameters, SERVER_NO_CONTEXT_TAKEOVER);
+            }
+            if (!properties.clientContextTakeover()) {
+                addIfAbsent(parameters, CLIENT_NO_CONTEXT_TAKEOVER);
+            }
+            return new NegotiatedExtension(extension.getName(), parameters);
+        }
+
+        private static void addIfAbsent(List<Extension.Parameter> parameters, String name) {
+            if (parameters.stream().noneMatch(parameter -> name.equals(parameter.getName()))) {
+                parameters.add(new NegotiatedParameter(name, null));
+            }
+        }
+
+        @Override
+        public String getNegotiatedSubprotocol(List<String> supported, List<String> requested) {
+            return delegate.getNegotiatedSubprotocol(supported, requested);
+        }
+
+        @Override
+        public boolean checkOrigin(String originHeaderValue) {
+            return delegate.checkOrigin(originHeaderValue);
+        }
+
+        @Override
+        public void modifyHandshake(ServerEndpointConfig sec, HandshakeRequest request, HandshakeResponse response) {
+            delegate.modifyHandshake(sec, request, response);
+        }
+
+        @Override
+        public <T> T getEndpointInstance(Class<T> endpointClass) throws InstantiationException {
+            return delegate.getEndpointInstance(endpointClass);
+        }
+
+        @Override
+        public ServerEndpointConfig.Configurator getContainerDefaultConfigurator() {
+            return delegate.getContainerDefaultConfigurator();
+        }
+    }
+
+    private record NegotiatedExtension(String name, List<Extension.Parameter> parameters) implements Extension {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<Parameter> getParameters() {
+            return parameters;
+        }
+    }
+
+    // 값이 없는 파라미터는 value가 null (no_context_takeover 계열)
+    private record NegotiatedParameter(String name, String value) implements Extension.Parameter {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.urikkiriserver.global.websocket;
 
 import com.example.urikkiriserver.global.security.auth.AuthDetails;
 import com.example.urikkiriserver.global.security.jwt.JwtProvider;
+import com.example.urikkiriserver.global.security.jwt.TokenBlacklist;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.server.ServerHttpRequest;
@@ -19,14 +20,16 @@ import java.util.Map;
 public class CustomHandshakeInterceptor implements HandshakeInterceptor {
 
     private final JwtProvider jwtProvider;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     public boolean beforeHandshake(@NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response,
                                    @NonNull WebSocketHandler wsHandler, @NonNull Map<String, Object> attributes) {
         String token = null;
         ClientType clientType = ClientType.LOBBY; // 기본값은 로비
+        WireFormat wireFormat = null;             // 서브프로토콜로 정하지 않았을 때만 사용 (기본값 JSON)
 
-        // 1. 쿼리 파라미터에서 토큰과 클라이언트 타입 추출
+        // 1. 쿼리 파라미터에서 토큰, 클라이언트 타입, 메시지 포맷 추출
         String query = request.getURI().getQuery();
         if (query != null) {
             String[] params = query.split("&");
@@ -41,6 +44,9 @@ public class CustomHandshakeInterceptor implements HandshakeInterceptor {
                         // 잘못된 clientType이면 기본값(LOBBY) 사용
 //                        log.warn("Invalid clientType: {}, using default LOBBY", typeValue);
                     }
+                } else if (param.startsWith("format=")) {
+                    // 잘못된 format이면 null (JSON 사용)
+                    wireFormat = WireFormat.fromParameter(param.substring(7));
                 }
             }
         }
@@ -62,13 +68,22 @@ public class CustomHandshakeInterceptor implements HandshakeInterceptor {
         }
 
         try {
+            // 로그아웃한 토큰이면 연결 거부
+            if (tokenBlacklist.isBlacklisted(token)) {
+                return false;
+            }
+
             // JWT 토큰 검증 및 인증 정보 추출
+            // 검증된 토큰과 사용자는 캐시되어 있고, 같은 사용자의 동시 접속은 DB 조회 한 번으로 합쳐짐
             Authentication authentication = jwtProvider.authentication(token);
 
-            // AuthDetails에서 실제 User 객체 추출
+            // 인증 정보로 이 연결만 쓰는 User 복사본을 만들어 세션에 보관 (캐시된 값을 연결끼리 공유하지 않음)
             if (authentication.getPrincipal() instanceof AuthDetails authDetails) {
-                attributes.put("userPrincipal", authDetails.getUser());
+                attributes.put("userPrincipal", authDetails.copyUser());
                 attributes.put("clientType", clientType); // 클라이언트 타입 추가
+                if (wireFormat != null) {
+                    attributes.put("wireFormat", wireFormat);
+                }
                 return true;
             }
 
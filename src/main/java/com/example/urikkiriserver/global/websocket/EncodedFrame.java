@@ -0,0 +1,74 @@
+package com.example.urikkiriserver.global.websocket;
+
+import com.example.urikkiriserver.global.websocket.dto.WebSocketMessage;
+import com.example.urikkiriserver.global.websocket.dto.WebSocketMessageType;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * 전송할 메시지 하나와 WireFormat별로 인코딩된 프레임
+ * 포맷별 인코딩은 그 포맷의 세션에 처음 보낼 때 한 번만 하고, 같은 포맷의 세션들은 같은 프레임을 공유함
+ * (방의 모든 클라이언트가 JSON이면 CBOR 인코딩은 하지 않음)
+ */
+public final class EncodedFrame {
+
+    private final WireFormatCodec codec;
+    private final WebSocketMessage message;
+    private final AtomicReferenceArray<Encoded> frames =
+            new AtomicReferenceArray<>(WireFormat.values().length);
+    private final AtomicReferenceArray<WebSocketCompressionMetrics.FrameSize> sizes =
+            new AtomicReferenceArray<>(WireFormat.values().length);
+
+    EncodedFrame(WireFormatCodec codec, WebSocketMessage message) {
+        this.codec = codec;
+        this.message = message;
+    }
+
+    public WebSocketMessageType type() {
+        return message.type();
+    }
+
+    // 해당 포맷의 프레임
+    public org.springframework.web.socket.WebSocketMessage<?> in(WireFormat format) {
+        return encoded(format).frame();
+    }
+
+    // 해당 포맷 프레임의 페이로드 바이트 수 (인코딩할 때 한 번만 계산해 두고 송신 큐에서 그대로 사용)
+    public int length(WireFormat format) {
+        return encoded(format).length();
+    }
+
+    // 동시에 처음 요청되면 두 번 인코딩될 수 있지만 결과는 같음
+    private Encoded encoded(WireFormat format) {
+        Encoded encoded = frames.get(format.ordinal());
+        if (encoded == null) {
+            var frame = codec.encode(format, message);
+            encoded = new Encoded(frame, frame.getPayloadLength());
+            frames.set(format.ordinal(), encoded);
+        }
+        return encoded;
+    }
+
+    // 해당 포맷 프레임의 원본/압축 크기 (처음 요청될 때 한 번만 측정)
+    WebSocketCompressionMetrics.FrameSize size(WireFormat format,
+                                               Function<org.springframework.web.socket.WebSocketMessage<?>, WebSocketCompressionMetrics.FrameSize> measure) {
+        var size = sizes.get(format.ordinal());
+        if (size == null) {
+            size = measure.apply(in(format));
+            sizes.set(format.ordinal(), size);
+        }
+        return size;
+    }
+
+    // 모든 포맷으로 미리 인코딩 (고정 프레임용)
+    EncodedFrame encodeAll() {
+        for (WireFormat format : WireFormat.values()) {
+            encoded(format);
+        }
+        return this;
+    }
+
+    private record Encoded(org.springframework.web.socket.WebSocketMessage<?> frame, int length) {
+    }
+}
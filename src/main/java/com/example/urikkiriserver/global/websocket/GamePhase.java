@@ -0,0 +1,12 @@
+package com.example.urikkiriserver.global.websocket;
+
+/**
+ * 방 하나의 게임 진행 단계
+ * WAITING -> SUBMITTING -> JUDGING -> (SUBMITTING ... ) -> ENDED
+ */
+public enum GamePhase {
+    WAITING,        // 게임 세션 연결 대기
+    SUBMITTING,     // 출제자를 제외한 참가자들의 카드 제출
+    JUDGING,        // 출제자가 제출된 카드 중 하나를 선택
+    ENDED           // 게임 종료
+}
@@ -1,109 +1,50 @@
 package com.example.urikkiriserver.global.websocket;
 
-import com.example.urikkiriserver.global.websocket.dto.SubmittedCardInfo;
+import com.example.urikkiriserver.domain.card.domain.CardDeck;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-
 // 각 방의 게임 상태를 메모리에서 관리하는 매니저
+// 한 방의 상태는 해당 방의 mailbox(RoomMailboxDispatcher)에서만 순서대로 변경됨
 @Component
 public class GameRoundManager {
 
-    // roomCode -> List<SubmittedCardInfo> (현재 제출된 카드들)
-    private final Map<String, List<SubmittedCardInfo>> submittedCards = new ConcurrentHashMap<>();
-
-    // roomCode -> List<Long> (출제자였던 userId 히스토리)
-    private final Map<String, List<Long>> examinerHistory = new ConcurrentHashMap<>();
-
-    // roomCode -> 게임 시작 여부
-    private final Map<String, Boolean> gameStarted = new ConcurrentHashMap<>();
-
-    // roomCode -> 제출 시도 횟수 (null 카드 포함)
-    private final Map<String, Integer> submissionAttempts = new ConcurrentHashMap<>();
+    // 6자리 방 코드(int) -> RoomGameState (메시지당 한 번의 조회로 진행 단계/제출/출제자 정보를 모두 확인)
+    private final RoomStateTable states = new RoomStateTable();
 
-    public void startGame(String roomCode) {
-        gameStarted.put(roomCode, true);
-        submittedCards.put(roomCode, Collections.synchronizedList(new ArrayList<>()));
-        examinerHistory.put(roomCode, Collections.synchronizedList(new ArrayList<>()));
-        submissionAttempts.put(roomCode, 0);
+    public GameRoundManager(MeterRegistry meterRegistry) {
+        Gauge.builder("game.rooms.active", states, RoomStateTable::size)
+                .description("Rooms with an in-memory game state")
+                .register(meterRegistry);
     }
 
-    public void clearSubmittedCards(String roomCode) {
-        // 다음 턴 시작 시 제출된 카드 초기화
-        submittedCards.put(roomCode, Collections.synchronizedList(new ArrayList<>()));
-        submissionAttempts.put(roomCode, 0);
-    }
+    // 게임 시작, 이미 진행 중인 방이거나 올바른 방 코드가 아니면 false
+    public boolean startGame(String roomCode, long[] participantIds, long examinerParticipantId, CardDeck deck) {
+        int key = RoomStateTable.toKey(roomCode);
+        if (key < 0) return false;
 
-    public void endGame(String roomCode) {
-        gameStarted.remove(roomCode);
-        submittedCards.remove(roomCode);
-        examinerHistory.remove(roomCode);
-        submissionAttempts.remove(roomCode);
+        return states.computeIfAbsent(key, RoomGameState::new).start(participantIds, examinerParticipantId, deck);
     }
 
-    // 제출 시도 증가 (null 카드 포함)
-    public void incrementSubmissionAttempt(String roomCode) {
-        submissionAttempts.merge(roomCode, 1, Integer::sum);
+    // 방의 게임 상태 조회 (게임이 시작되지 않았거나 끝난 방이면 null)
+    public RoomGameState getState(String roomCode) {
+        int key = RoomStateTable.toKey(roomCode);
+        return key < 0 ? null : states.get(key);
     }
 
-    // 제출 시도 횟수 조회
-    public int getSubmissionAttempts(String roomCode) {
-        return submissionAttempts.getOrDefault(roomCode, 0);
-    }
-
-    // 카드 제출
-    public void submitCard(String roomCode, SubmittedCardInfo cardInfo) {
-        submittedCards.computeIfAbsent(roomCode, k -> new ArrayList<>()).add(cardInfo);
-    }
-
-    // 제출된 카드 목록 조회
-    public List<SubmittedCardInfo> getSubmittedCards(String roomCode) {
-        return new ArrayList<>(submittedCards.getOrDefault(roomCode, Collections.emptyList()));
-    }
-
-    // 제출된 카드 개수 확인
-    public int getSubmittedCount(String roomCode) {
-        return submittedCards.getOrDefault(roomCode, Collections.emptyList()).size();
-    }
+    public void endGame(String roomCode) {
+        int key = RoomStateTable.toKey(roomCode);
+        if (key < 0) return;
 
-    // 3명이 모두 제출했는지 확인 (출제자 제외, null 포함)
-    public boolean isAllCardsSubmitted(String roomCode) {
-        return getSubmissionAttempts(roomCode) >= 3;
+        RoomGameState state = states.remove(key);
+        if (state != null) {
+            state.end();
+        }
     }
 
     public boolean isGameStarted(String roomCode) {
-        return gameStarted.getOrDefault(roomCode, false);
-    }
-
-    // 출제자 히스토리에 추가
-    public void addExaminerHistory(String roomCode, Long participantId) {
-        examinerHistory.computeIfAbsent(roomCode, k -> Collections.synchronizedList(new ArrayList<>())).add(participantId);
-    }
-
-    // 출제자 히스토리 조회
-    public List<Long> getExaminerHistory(String roomCode) {
-        return new ArrayList<>(examinerHistory.getOrDefault(roomCode, Collections.emptyList()));
-    }
-
-    // 다음 출제자 Participant ID 선택 (출제자가 아니었던 사람 중 랜덤)
-    public Long selectNextExaminer(String roomCode, List<Long> allParticipantIds) {
-        List<Long> history = getExaminerHistory(roomCode);
-
-        // 아직 출제자가 아니었던 참가자 필터링
-        List<Long> availableParticipants = allParticipantIds.stream()
-                .filter(id -> !history.contains(id))
-                .toList();
-
-        // 모두 출제자를 했다면 히스토리 초기화하고 모든 참가자 중에서 선택
-        if (availableParticipants.isEmpty()) {
-            examinerHistory.put(roomCode, Collections.synchronizedList(new ArrayList<>()));
-            availableParticipants = new ArrayList<>(allParticipantIds);
-        }
-
-        // 랜덤으로 선택
-        Random random = new Random();
-        return availableParticipants.get(random.nextInt(availableParticipants.size()));
+        RoomGameState state = getState(roomCode);
+        return state != null && state.isInProgress();
     }
 }
-
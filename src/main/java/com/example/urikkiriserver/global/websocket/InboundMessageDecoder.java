@@ -0,0 +1,47 @@
+package com.example.urikkiriserver.global.websocket;
+
+import com.example.urikkiriserver.global.websocket.dto.InboundMessage;
+import com.example.urikkiriserver.global.websocket.exception.WebSocketMessageTooLarge;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.io.IOException;
+
+/**
+ * 수신 프레임 → InboundMessage 디코더
+ * 텍스트 프레임 크기는 컨테이너 버퍼가 이미 제한하므로 그대로 읽고, 바이너리 프레임은 바이트 수로 한 번 더 확인함
+ * 프레임은 미리 만들어 둔 ObjectReader로 한 번에 읽음
+ * TextMessage는 JSON, BinaryMessage는 CBOR로 읽음
+ */
+@Component
+public class InboundMessageDecoder {
+
+    private final WireFormatCodec codec;
+    private final int maxFrameBytes;
+
+    public InboundMessageDecoder(WireFormatCodec codec, WebSocketProperties webSocketProperties) {
+        this.codec = codec;
+        this.maxFrameBytes = webSocketProperties.inbound().maxFrameBytes();
+    }
+
+    public InboundMessage decode(WebSocketMessage<?> message) throws IOException {
+        InboundMessage inbound;
+        if (message instanceof TextMessage text) {
+            inbound = codec.decode(text.getPayload());
+        } else if (message instanceof BinaryMessage binary) {
+            if (binary.getPayloadLength() > maxFrameBytes) {
+                throw WebSocketMessageTooLarge.EXCEPTION;
+            }
+            inbound = codec.decode(binary.getPayload());
+        } else {
+            throw new IOException("Unsupported frame: " + message.getClass().getSimpleName());
+        }
+
+        if (inbound == null || inbound.type() == null) {
+            throw new IOException("Missing message type");
+        }
+        return inbound;
+    }
+}
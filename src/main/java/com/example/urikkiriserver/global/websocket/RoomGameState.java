@@ -0,0 +1,258 @@
+package com.example.urikkiriserver.global.websocket;
+
+import com.example.urikkiriserver.domain.card.domain.CardDeck;
+import com.example.urikkiriserver.domain.card.presentation.dto.response.CardResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 방 하나의 게임 진행 상태
+ * WAITING -> SUBMITTING <-> JUDGING -> ENDED 순서로만 전이되며, 각 전이는 compareAndSet으로 한 번만 성공함
+ * 단계가 맞지 않거나 이미 제출한 참가자의 SUBMIT_CARD / EXAMINER_SELECT는 DB 조회 없이 걸러낼 수 있음
+ *
+ * 참가자는 입장 순서대로 슬롯(0 ~ MAX_PLAYERS-1)에 배치되고,
+ * 출제자 히스토리/제출 여부는 슬롯 비트마스크, 제출 카드와 손패는 슬롯별 카드 ID로 보관해
+ * 제출 한 번에 객체를 새로 만들지 않음
+ */
+public class RoomGameState {
+
+    public static final int MAX_PLAYERS = 4;
+    public static final int HAND_SIZE = 5;
+
+    // 카드를 제출하지 않았거나 시간 초과로 null 카드를 제출한 슬롯
+    public static final long NO_CARD = 0L;
+
+    private final AtomicReference<GamePhase> phase = new AtomicReference<>(GamePhase.WAITING);
+
+    // 슬롯별 Participant ID / 현재 라운드에 제출한 카드 ID
+    private final long[] participantIds = new long[MAX_PLAYERS];
+    private final long[] cardIds = new long[MAX_PLAYERS];
+
+    // 슬롯별 이번 라운드 손패 카드 ID (slot * HAND_SIZE 부터 HAND_SIZE개)
+    private final long[] hands = new long[MAX_PLAYERS * HAND_SIZE];
+
+    private CardDeck deck;
+
+    private int playerCount;
+    private int examinerSlot = -1;
+    private int examinerHistory;    // 출제자였던 슬롯 비트마스크
+    private int submitted;          // 현재 라운드에 제출 시도를 마친 슬롯 비트마스크 (null 카드 포함)
+    private int round;
+
+    // WAITING -> SUBMITTING, 이미 시작된 게임이면 false
+    public boolean start(long[] participantIds, long examinerParticipantId, CardDeck deck) {
+        if (!phase.compareAndSet(GamePhase.WAITING, GamePhase.SUBMITTING)) return false;
+
+        synchronized (this) {
+            this.deck = deck;
+            this.playerCount = Math.min(participantIds.length, MAX_PLAYERS);
+            System.arraycopy(participantIds, 0, this.participantIds, 0, playerCount);
+            this.examinerSlot = slotOf(examinerParticipantId);
+            this.examinerHistory = bit(examinerSlot);
+            this.round = 1;
+        }
+        return true;
+    }
+
+    // 제출 기록 (null 카드는 NO_CARD), 제출 단계가 아니거나 방 참가자가 아니거나 이미 제출했으면 false
+    public synchronized boolean submit(long participantId, long cardId) {
+        if (phase.get() != GamePhase.SUBMITTING) return false;
+
+        int slot = slotOf(participantId);
+        if (slot < 0 || (submitted & bit(slot)) != 0) return false;
+
+        submitted |= bit(slot);
+        cardIds[slot] = cardId;
+        return true;
+    }
+
+    /**
+     * 출제자를 제외한 참가자마다 손패를 새로 배분 (라운드 시작 시)
+     * 라운드 전체 손패를 덱에서 한 번에 뽑으므로 참가자끼리 카드가 겹치지 않음
+     * @return 슬롯 순서의 손패 목록 (출제자 슬롯은 빈 목록)
+     */
+    public synchronized List<List<CardResponse>> dealHands() {
+        Arrays.fill(hands, NO_CARD);
+
+        int receivers = examinerSlot >= 0 && examinerSlot < playerCount ? playerCount - 1 : playerCount;
+        CardResponse[] drawn = deck != null ? deck.draw(receivers * HAND_SIZE) : new CardResponse[0];
+
+        List<List<CardResponse>> dealt = new ArrayList<>(playerCount);
+        int next = 0;
+        for (int slot = 0; slot < playerCount; slot++) {
+            if (slot == examinerSlot || deck == null) {
+                dealt.add(List.of());
+                continue;
+            }
+
+            List<CardResponse> hand = new ArrayList<>(HAND_SIZE);
+            for (int i = 0; i < HAND_SIZE; i++) {
+                CardResponse card = drawn[next++];
+                hands[slot * HAND_SIZE + i] = card.cardId();
+                hand.add(card);
+            }
+            dealt.add(hand);
+        }
+        return dealt;
+    }
+
+    // 참가자의 이번 라운드 손패에 있는 카드인지 확인
+    public synchronized boolean holdsCard(long participantId, long cardId) {
+        int slot = slotOf(participantId);
+        if (slot < 0) return false;
+
+        for (int i = slot * HAND_SIZE; i < (slot + 1) * HAND_SIZE; i++) {
+            if (hands[i] == cardId) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 게임 중 나간 참가자의 슬롯 제거 (뒤 슬롯을 한 칸씩 당기고 비트마스크도 함께 당김)
+     * 플레이어 수와 라운드당 제출 인원도 함께 줄어듦
+     * @return 나간 참가자가 현재 출제자였으면 true (출제자 없음 상태가 됨)
+     */
+    public synchronized boolean removePlayer(long participantId) {
+        int slot = slotOf(participantId);
+        if (slot < 0) return false;
+
+        for (int i = slot; i < playerCount - 1; i++) {
+            participantIds[i] = participantIds[i + 1];
+            cardIds[i] = cardIds[i + 1];
+            System.arraycopy(hands, (i + 1) * HAND_SIZE, hands, i * HAND_SIZE, HAND_SIZE);
+        }
+        playerCount--;
+        participantIds[playerCount] = 0L;
+        cardIds[playerCount] = NO_CARD;
+        Arrays.fill(hands, playerCount * HAND_SIZE, (playerCount + 1) * HAND_SIZE, NO_CARD);
+
+        submitted = removeBit(submitted, slot);
+        examinerHistory = removeBit(examinerHistory, slot);
+
+        boolean wasExaminer = examinerSlot == slot;
+        if (wasExaminer) {
+            examinerSlot = -1;
+        } else if (examinerSlot > slot) {
+            examinerSlot--;
+        }
+        return wasExaminer;
+    }
+
+    // SUBMITTING -> JUDGING, 출제자를 제외한 모두가 제출했고 이번에 전이에 성공한 경우에만 true
+    public boolean tryBeginJudging() {
+        return getSubmissionAttempts() >= getSubmissionsPerRound()
+                && phase.compareAndSet(GamePhase.SUBMITTING, GamePhase.JUDGING);
+    }
+
+    // JUDGING -> SUBMITTING, 제출 정보를 비우고 다음 출제자로 새 라운드 시작
+    public synchronized boolean nextRound(long nextExaminerParticipantId) {
+        if (!phase.compareAndSet(GamePhase.JUDGING, GamePhase.SUBMITTING)) return false;
+
+        submitted = 0;
+        Arrays.fill(cardIds, NO_CARD);
+        examinerSlot = slotOf(nextExaminerParticipantId);
+        examinerHistory |= bit(examinerSlot);
+        round++;
+        return true;
+    }
+
+    // 게임 종료, 이미 종료된 상태였다면 false
+    public boolean end() {
+        return phase.getAndSet(GamePhase.ENDED) != GamePhase.ENDED;
+    }
+
+    // 다음 출제자 Participant ID 선택 (출제자가 아니었던 사람 중 랜덤)
+    public synchronized long selectNextExaminer() {
+        int everyone = (1 << playerCount) - 1;
+        int available = everyone & ~examinerHistory;
+
+        // 모두 출제자를 했다면 히스토리 초기화하고 모든 참가자 중에서 선택
+        if (available == 0) {
+            examinerHistory = 0;
+            available = everyone;
+        }
+
+        // available의 n번째 비트 슬롯 선택
+        int pick = ThreadLocalRandom.current().nextInt(Integer.bitCount(available));
+        for (int i = 0; i < pick; i++) {
+            available &= available - 1;
+        }
+        return participantIds[Integer.numberOfTrailingZeros(available)];
+    }
+
+    public GamePhase getPhase() {
+        return phase.get();
+    }
+
+    public boolean isInProgress() {
+        GamePhase current = phase.get();
+        return current == GamePhase.SUBMITTING || current == GamePhase.JUDGING;
+    }
+
+    public synchronized boolean isExaminer(long participantId) {
+        return examinerSlot >= 0 && participantIds[examinerSlot] == participantId;
+    }
+
+    public synchronized boolean hasSubmitted(long participantId) {
+        int slot = slotOf(participantId);
+        return slot >= 0 && (submitted & bit(slot)) != 0;
+    }
+
+    public synchronized int getSubmissionAttempts() {
+        return Integer.bitCount(submitted);
+    }
+
+    // 출제자를 제외한 라운드당 제출 인원
+    public synchronized int getSubmissionsPerRound() {
+        return playerCount - 1;
+    }
+
+    // 참가자가 이번 라운드에 제출한 카드 ID (제출하지 않았거나 null 카드면 NO_CARD)
+    public synchronized long getSubmittedCardId(long participantId) {
+        int slot = slotOf(participantId);
+        return slot >= 0 ? cardIds[slot] : NO_CARD;
+    }
+
+    public synchronized int getPlayerCount() {
+        return playerCount;
+    }
+
+    public synchronized long getParticipantId(int slot) {
+        return participantIds[slot];
+    }
+
+    public synchronized long getSubmittedCardIdAt(int slot) {
+        return cardIds[slot];
+    }
+
+    // 출제자 Participant ID (출제자가 정해지지 않았으면 -1)
+    public synchronized long getExaminerParticipantId() {
+        return examinerSlot >= 0 ? participantIds[examinerSlot] : -1;
+    }
+
+    public synchronized int getRound() {
+        return round;
+    }
+
+    private int slotOf(long participantId) {
+        for (int i = 0; i < playerCount; i++) {
+            if (participantIds[i] == participantId) return i;
+        }
+        return -1;
+    }
+
+    // slot 비트를 빼고 그 위 비트들을 한 칸씩 내림
+    private static int removeBit(int mask, int slot) {
+        int lower = mask & ((1 << slot) - 1);
+        int upper = (mask >>> (slot + 1)) << slot;
+        return lower | upper;
+    }
+
+    private static int bit(int slot) {
+        return slot >= 0 ? 1 << slot : 0;
+    }
+}
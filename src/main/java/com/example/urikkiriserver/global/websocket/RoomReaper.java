@@ -0,0 +1,251 @@
+package com.example.urikkiriserver.global.websocket;
+
+import com.example.urikkiriserver.domain.play.domain.PlayProperties;
+import com.example.urikkiriserver.domain.play.domain.RoomCodeAllocator;
+import com.example.urikkiriserver.domain.play.domain.roster.ParticipantWriteBehind;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRosterStore;
+import com.example.urikkiriserver.domain.quiz.domain.QuizCatalog;
+import com.example.urikkiriserver.global.timer.RoomTimerService;
+import com.example.urikkiriserver.global.websocket.mailbox.RoomMailboxDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 버려진 방 정리
+ * 방마다 마지막 메시지 시각을 기록해 두고 주기적으로 두 단계로 정리함
+ * 1. 메모리: 연결된 세션 없이 idle-millis가 지난 방의 게임 상태/명단/타이머/mailbox/문제 순서를 제거
+ *    (방 mailbox 안에서 실행되므로 진행 중인 메시지 처리와 겹치지 않음)
+ * 2. DB: tbl_room을 id 순으로 batch-size씩 읽어, 이 서버 구간의 방 중 메모리에 없는 상태로
+ *    idle-millis 이상 남아 있던 방을 참가자와 함께 삭제하고 방 코드를 반납
+ *    구간마다 한 트랜잭션 안에서 방 행을 잠근 뒤 참가자와 방을 함께 삭제하므로 긴 락을 잡지 않고,
+ *    스캔 이후 새 참가자가 들어온 방은 삭제하지 않음
+ */
+@Slf4j
+@Component
+public class RoomReaper {
+
+    private static final String SELECT_ROOMS =
+            "SELECT id, code FROM tbl_room WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_MAX_PARTICIPANT_ID =
+            "SELECT COALESCE(MAX(id), 0) FROM tbl_participant";
+
+    private final PlayProperties.Reaper properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WebSocketSessionManager sessionManager;
+    private final RoomMailboxDispatcher mailboxDispatcher;
+    private final RoomTimerService roomTimerService;
+    private final GameRoundManager gameRoundManager;
+    private final RoomRosterStore roomRosterStore;
+    private final ParticipantWriteBehind participantWriteBehind;
+    private final QuizCatalog quizCatalog;
+    private final RoomCodeAllocator roomCodeAllocator;
+
+    private final Counter roomsEvicted;
+    private final Counter roomsDeleted;
+    private final Counter participantsDeleted;
+
+    // roomCode -> 마지막 메시지 시각 (메모리에 상태가 있을 수 있는 방)
+    private final Map<String, Long> lastActivity = new ConcurrentHashMap<>();
+
+    // roomCode -> 메모리에 상태가 없는 것을 처음 확인한 시각 (DB 삭제 후보)
+    private final Map<String, Long> inactiveSince = new ConcurrentHashMap<>();
+
+    public RoomReaper(PlayProperties playProperties, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                      WebSocketSessionManager sessionManager, RoomMailboxDispatcher mailboxDispatcher,
+                      RoomTimerService roomTimerService, GameRoundManager gameRoundManager,
+                      RoomRosterStore roomRosterStore, ParticipantWriteBehind participantWriteBehind,
+                      QuizCatalog quizCatalog, RoomCodeAllocator roomCodeAllocator, MeterRegistry meterRegistry) {
+        this.properties = playProperties.reaper();
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sessionManager = sessionManager;
+        this.mailboxDispatcher = mailboxDispatcher;
+        this.roomTimerService = roomTimerService;
+        this.gameRoundManager = gameRoundManager;
+        this.roomRosterStore = roomRosterStore;
+        this.participantWriteBehind = participantWriteBehind;
+        this.quizCatalog = quizCatalog;
+        this.roomCodeAllocator = roomCodeAllocator;
+
+        this.roomsEvicted = Counter.builder("game.reaper.rooms.evicted")
+                .description("Idle rooms whose in-memory state was released")
+                .register(meterRegistry);
+        this.roomsDeleted = Counter.builder("game.reaper.rooms.deleted")
+                .description("Abandoned room rows deleted")
+                .register(meterRegistry);
+        this.participantsDeleted = Counter.builder("game.reaper.participants.deleted")
+                .description("Orphaned participant rows deleted with their room")
+                .register(meterRegistry);
+
+        Gauge.builder("game.reaper.rooms.tracked", lastActivity, Map::size)
+                .description("Rooms with recent activity tracked by the reaper")
+                .register(meterRegistry);
+    }
+
+    // 방에 메시지가 들어올 때마다 호출
+    public void touch(String roomCode) {
+        lastActivity.put(roomCode, System.currentTimeMillis());
+        inactiveSince.remove(roomCode);
+    }
+
+    @Scheduled(fixedDelayString = "${urikkiri.play.reaper.interval-millis:60000}",
+            initialDelayString = "${urikkiri.play.reaper.interval-millis:60000}")
+    public void reap() {
+        long now = System.currentTimeMillis();
+        evictIdleRooms(now);
+
+        try {
+            deleteAbandonedRooms(now);
+        } catch (DataAccessException e) {
+            log.error("Failed to delete abandoned rooms", e);
+        }
+    }
+
+    private void evictIdleRooms(long now) {
+        lastActivity.forEach((roomCode, lastActiveAt) -> {
+            if (now - lastActiveAt < properties.idleMillis() || hasSessions(roomCode)) return;
+
+            // 방 mailbox 안에서 다시 확인하고 정리 (그 사이 메시지가 들어왔으면 유지)
+            mailboxDispatcher.dispatch(roomCode, () -> {
+                if (!lastActivity.remove(roomCode, lastActiveAt) || hasSessions(roomCode)) return;
+
+                gameRoundManager.endGame(roomCode);
+                quizCatalog.release(roomCode);
+                roomTimerService.cancelAll(roomCode);
+                participantWriteBehind.flush(roomCode);
+                roomRosterStore.evict(roomCode);
+                mailboxDispatcher.remove(roomCode);
+
+                // 이미 idle-millis만큼 비어 있었으므로 DB에서도 바로 삭제 대상
+                inactiveSince.putIfAbsent(roomCode, lastActiveAt);
+                roomsEvicted.increment();
+                log.info("Released in-memory state of idle room {}", roomCode);
+            });
+        });
+    }
+
+    private void deleteAbandonedRooms(long now) {
+        Set<String> seen = new HashSet<>();
+        long lastId = 0;
+        int deletedRooms = 0;
+        int deletedParticipants = 0;
+
+        // 스캔 시작 시점의 마지막 참가자 id, 이보다 큰 참가자가 있는 방은 스캔 중 누군가 참가한 방
+        long scanParticipantId = jdbcTemplate.queryForObject(SELECT_MAX_PARTICIPANT_ID, Long.class);
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_ROOMS, lastId, properties.batchSize());
+            if (rows.isEmpty()) break;
+
+            Map<Long, String> expired = new LinkedHashMap<>();
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                String code = (String) row.get("code");
+                lastId = id;
+
+                // 다른 서버 구간의 방이나 메모리에서 사용 중인 방은 건너뜀
+                if (!roomCodeAllocator.owns(code) || isLive(code)) continue;
+
+                seen.add(code);
+                long since = inactiveSince.computeIfAbsent(code, c -> now);
+                if (now - since >= properties.idleMillis()) {
+                    expired.put(id, code);
+                }
+            }
+
+            if (!expired.isEmpty()) {
+                try {
+                    DeletedRooms deleted = transactionTemplate.execute(
+                            status -> deleteRooms(List.copyOf(expired.keySet()), scanParticipantId));
+                    deletedParticipants += deleted.participants();
+                    deletedRooms += deleted.roomIds().size();
+                    deleted.roomIds().forEach(id -> {
+                        String code = expired.get(id);
+                        inactiveSince.remove(code);
+                        roomCodeAllocator.release(code);
+                    });
+                } catch (DataAccessException | TransactionException e) {
+                    // 락 대기 시간 초과 등, 다음 주기에 다시 확인
+                    log.warn("Failed to delete abandoned rooms {}: {}", expired.values(), e.getMessage());
+                }
+            }
+
+            if (rows.size() < properties.batchSize()) break;
+        }
+
+        // 더 이상 DB에 없는 방의 후보 기록 정리
+        inactiveSince.keySet().retainAll(seen);
+
+        if (deletedRooms > 0 || deletedParticipants > 0) {
+            roomsDeleted.increment(deletedRooms);
+            participantsDeleted.increment(deletedParticipants);
+            log.info("Deleted {} abandoned rooms and {} orphaned participants", deletedRooms, deletedParticipants);
+        }
+    }
+
+    private record DeletedRooms(List<Long> roomIds, int participants) {
+    }
+
+    /**
+     * 한 트랜잭션 안에서 방 행을 먼저 잠그고, 스캔 이후 참가자가 생긴 방을 빼고 참가자와 방을 삭제
+     * 잠근 뒤에는 참가자 INSERT가 외래 키 검사에서 방 행 락을 기다리므로, 확인과 삭제 사이에 참가할 수 없음
+     */
+    private DeletedRooms deleteRooms(List<Long> candidateIds, long scanParticipantId) {
+        jdbcTemplate.queryForList(
+                "SELECT id FROM tbl_room WHERE id IN (" + placeholders(candidateIds) + ") FOR UPDATE",
+                Long.class, candidateIds.toArray());
+
+        // 잠그기 전에 커밋된 참가도 잡아내기 위해 잠금 읽기로 확인
+        List<Object> joinedArgs = new ArrayList<>(candidateIds);
+        joinedArgs.add(scanParticipantId);
+        Set<Long> joined = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT DISTINCT room_id FROM tbl_participant WHERE room_id IN (" + placeholders(candidateIds) + ")"
+                        + " AND id > ? FOR SHARE",
+                Long.class, joinedArgs.toArray()));
+
+        List<Long> roomIds = candidateIds.stream().filter(id -> !joined.contains(id)).toList();
+        if (roomIds.isEmpty()) return new DeletedRooms(roomIds, 0);
+
+        // 참가자를 먼저 지우고 방을 삭제
+        Object[] args = roomIds.toArray();
+        int participants = jdbcTemplate.update("DELETE FROM tbl_participant WHERE room_id IN (" + placeholders(roomIds) + ")", args);
+        jdbcTemplate.update("DELETE FROM tbl_room WHERE id IN (" + placeholders(roomIds) + ")", args);
+        return new DeletedRooms(roomIds, participants);
+    }
+
+    private static String placeholders(List<?> values) {
+        return String.join(",", Collections.nCopies(values.size(), "?"));
+    }
+
+    // 최근 메시지가 있었거나, 명단이 메모리에 있거나, 연결된 세션이 있는 방
+    private boolean isLive(String roomCode) {
+        return lastActivity.containsKey(roomCode)
+                || roomRosterStore.find(roomCode).isPresent()
+                || hasSessions(roomCode);
+    }
+
+    private boolean hasSessions(String roomCode) {
+        return !sessionManager.getLobbySessionsByRoom(roomCode).isEmpty()
+                || !sessionManager.getGameSessionsByRoom(roomCode).isEmpty();
+    }
+}
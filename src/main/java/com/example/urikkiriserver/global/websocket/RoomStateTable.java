@@ -0,0 +1,175 @@
+package com.example.urikkiriserver.global.websocket;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * 6자리 숫자 방 코드를 int 키로 쓰는 open addressing(linear probing) 해시 테이블
+ * String 해싱/Entry 객체 없이 배열 두 개로 RoomGameState를 보관하며,
+ * 조회는 StampedLock 낙관적 읽기로 락 없이, 추가/삭제만 쓰기 락으로 처리함
+ */
+class RoomStateTable {
+
+    private static final int EMPTY = 0;                 // 유효한 방 코드는 100000 이상이므로 0은 빈 슬롯
+    private static final int INITIAL_CAPACITY = 1024;   // 2의 거듭제곱
+
+    private final StampedLock lock = new StampedLock();
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private RoomGameState[] values = new RoomGameState[INITIAL_CAPACITY];
+    private int size;
+
+    // 방 코드를 테이블 키로 변환 (6자리 숫자가 아니면 -1)
+    static int toKey(String roomCode) {
+        if (roomCode == null || roomCode.length() != 6) return -1;
+
+        int key = 0;
+        for (int i = 0; i < 6; i++) {
+            char c = roomCode.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            key = key * 10 + (c - '0');
+        }
+        return key == EMPTY ? -1 : key;
+    }
+
+    RoomGameState get(int key) {
+        long stamp = lock.tryOptimisticRead();
+        RoomGameState value = find(keys, values, key);
+        if (lock.validate(stamp)) return value;
+
+        // 읽는 도중 쓰기가 있었으면 읽기 락으로 다시 조회
+        stamp = lock.readLock();
+        try {
+            return find(keys, values, key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    RoomGameState computeIfAbsent(int key, Supplier<RoomGameState> factory) {
+        RoomGameState existing = get(key);
+        if (existing != null) return existing;
+
+        long stamp = lock.writeLock();
+        try {
+            int mask = keys.length - 1;
+            int index = indexFor(key, mask);
+            while (keys[index] != EMPTY) {
+                if (keys[index] == key) return values[index];
+                index = (index + 1) & mask;
+            }
+
+            RoomGameState value = factory.get();
+            keys[index] = key;
+            values[index] = value;
+
+            // 부하율 50%를 넘으면 두 배로 확장 (탐색 길이를 짧게 유지)
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+            return value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    RoomGameState remove(int key) {
+        long stamp = lock.writeLock();
+        try {
+            int mask = keys.length - 1;
+            int index = indexFor(key, mask);
+            while (keys[index] != key) {
+                if (keys[index] == EMPTY) return null;
+                index = (index + 1) & mask;
+            }
+
+            RoomGameState removed = values[index];
+            keys[index] = EMPTY;
+            values[index] = null;
+            size--;
+            shiftBack(index, mask);
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.tryOptimisticRead();
+        int current = size;
+        if (lock.validate(stamp)) return current;
+
+        stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // 낙관적 읽기 중에도 끝나도록 탐색 횟수를 배열 길이로 제한
+    private static RoomGameState find(int[] keys, RoomGameState[] values, int key) {
+        // 확장 도중 서로 다른 세대의 배열을 읽은 경우 (validate 실패로 다시 조회됨)
+        if (keys.length != values.length) return null;
+
+        int mask = keys.length - 1;
+        int index = indexFor(key, mask);
+        for (int probe = 0; probe < keys.length; probe++) {
+            int current = keys[index];
+            if (current == key) return values[index];
+            if (current == EMPTY) return null;
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    // 삭제된 슬롯 뒤의 항목들을 당겨 tombstone 없이 탐색 체인 유지
+    private void shiftBack(int emptied, int mask) {
+        int index = (emptied + 1) & mask;
+        while (keys[index] != EMPTY) {
+            int home = indexFor(keys[index], mask);
+
+            // home이 (emptied, index] 구간 밖이면 빈 자리로 옮겨도 탐색 가능
+            boolean movable = emptied <= index
+                    ? home <= emptied || home > index
+                    : home <= emptied && home > index;
+            if (movable) {
+                keys[emptied] = keys[index];
+                values[emptied] = values[index];
+                keys[index] = EMPTY;
+                values[index] = null;
+                emptied = index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        RoomGameState[] oldValues = values;
+        int[] newKeys = new int[oldKeys.length * 2];
+        RoomGameState[] newValues = new RoomGameState[oldKeys.length * 2];
+        int mask = newKeys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+
+            int index = indexFor(oldKeys[i], mask);
+            while (newKeys[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            newKeys[index] = oldKeys[i];
+            newValues[index] = oldValues[i];
+        }
+
+        // 두 배열을 모두 채운 뒤 교체 (교체 중 낙관적으로 읽은 스레드는 validate 실패로 다시 조회)
+        keys = newKeys;
+        values = newValues;
+    }
+
+    private static int indexFor(int key, int mask) {
+        // 연속된 방 코드가 한 구간에 몰리지 않도록 섞어서 사용
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.urikkiriserver.global.websocket;
+
+import com.example.urikkiriserver.global.websocket.mailbox.SessionInbox;
+import com.example.urikkiriserver.global.websocket.outbound.OutboundSession;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 연결된 WebSocket 세션 하나에 대한 등록 정보
+ * 세션 ID로 바로 찾을 수 있도록 WebSocketSessionManager가 보관하며,
+ * 방 코드/참가자 ID는 방 참가 및 CONNECT_GAME 시점에 채워짐
+ * clientType은 접속할 때 정한 타입이고, 실제 역할(roles)은 방 참가/CONNECT_GAME에 따라 바뀜
+ * (로비 소켓이 CONNECT_GAME을 보내면 같은 연결이 로비와 게임 역할을 함께 가짐)
+ */
+@Getter
+public class SessionRegistration {
+
+    private final WebSocketSession session;
+    private final ClientType clientType;
+
+    // 이 세션에 보낼 메시지의 인코딩 (핸드셰이크 때 정해짐)
+    private final WireFormat wireFormat;
+
+    // permessage-deflate가 협상된 세션인지 (압축 메트릭 기록용)
+    private final boolean compressed;
+
+    // 현재 역할 (ClientType ordinal 비트마스크), 방 브로드캐스트와 유저별 세션 조회가 이 값으로 대상을 거름
+    @Getter(AccessLevel.NONE)
+    private volatile int roles;
+    private final Long userId;
+
+    // 세션별 송신 큐 (모든 전송은 이 큐를 거침)
+    private final OutboundSession outbound;
+
+    // 세션이 보낸 메시지를 받은 순서대로 처리하기 위한 큐
+    private final SessionInbox inbox;
+
+    // 현재 세션이 속한 방 코드 (방에 들어가기 전에는 null)
+    private volatile String roomCode;
+
+    // 게임 세션으로 연결된 경우의 Participant ID (그 전에는 null)
+    private volatile Long participantId;
+
+    // 마지막으로 클라이언트에게서 프레임(메시지/pong)을 받은 시각
+    private volatile long lastActivityAt = System.currentTimeMillis();
+
+    // 응답을 기다리는 ping을 보낸 시각 (대기 중인 ping이 없으면 0)
+    private volatile long pingSentAt;
+
+    public SessionRegistration(WebSocketSession session, ClientType clientType, WireFormat wireFormat,
+                               Long userId, OutboundSession outbound, SessionInbox inbox) {
+        this.session = session;
+        this.clientType = clientType;
+        this.wireFormat = wireFormat;
+        this.compressed = session.getExtensions().stream()
+                .anyMatch(extension -> CompressionHandshakeHandler.PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()));
+        this.userId = userId;
+        this.outbound = outbound;
+        this.inbox = inbox;
+    }
+
+    public boolean hasRole(ClientType role) {
+        return (roles & (1 << role.ordinal())) != 0;
+    }
+
+    synchronized void addRole(ClientType role) {
+        roles |= 1 << role.ordinal();
+    }
+
+    synchronized void removeRole(ClientType role) {
+        roles &= ~(1 << role.ordinal());
+    }
+
+    // 방에서 나가면 역할 없음 (다시 방에 들어갈 때 부여됨)
+    synchronized void clearRoles() {
+        roles = 0;
+    }
+
+    void setRoomCode(String roomCode) {
+        this.roomCode = roomCode;
+    }
+
+    void setParticipantId(Long participantId) {
+        this.participantId = participantId;
+    }
+
+    // 클라이언트가 살아있음을 기록 (대기 중인 ping도 응답된 것으로 처리)
+    public void markActive() {
+        this.lastActivityAt = System.currentTimeMillis();
+        this.pingSentAt = 0;
+    }
+
+    void markPingSent(long now) {
+        this.pingSentAt = now;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.urikkiriserver.global.websocket;
+
+import com.example.urikkiriserver.global.websocket.dto.WebSocketMessageType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * permessage-deflate 세션으로 보낸 프레임의 메시지 타입별 원본/압축 바이트 수
+ * Tomcat은 세션마다 압축한 크기를 알려주지 않으므로, 프레임마다 한 번 직접 deflate 해서 크기를 잼
+ * (context takeover 없이 잰 값이라 takeover를 켠 세션의 실제 전송량은 이보다 작거나 같음)
+ * 측정은 프레임(EncodedFrame)당 포맷별로 한 번이고, 같은 프레임을 받는 세션 수만큼 더해짐
+ */
+@Component
+public class WebSocketCompressionMetrics {
+
+    // RFC 7692: 압축된 메시지 끝의 0x00 0x00 0xff 0xff는 전송하지 않음
+    private static final int DEFLATE_TAIL_BYTES = 4;
+
+    private final Map<WebSocketMessageType, Counter> rawBytes = new EnumMap<>(WebSocketMessageType.class);
+    private final Map<WebSocketMessageType, Counter> compressedBytes = new EnumMap<>(WebSocketMessageType.class);
+
+    // Deflater는 스레드 안전하지 않고 만들 때 네이티브 메모리를 잡으므로 스레드마다 하나를 재사용
+    private final ThreadLocal<Deflater> deflaters =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    private final ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[8192]);
+
+    public WebSocketCompressionMetrics(MeterRegistry meterRegistry) {
+        for (WebSocketMessageType type : WebSocketMessageType.values()) {
+            rawBytes.put(type, Counter.builder("websocket.compression.bytes")
+                    .description("Payload bytes sent to permessage-deflate sessions")
+                    .tag("type", type.name())
+                    .tag("stage", "raw")
+                    .baseUnit("bytes")
+                    .register(meterRegistry));
+            compressedBytes.put(type, Counter.builder("websocket.compression.bytes")
+                    .description("Payload bytes sent to permessage-deflate sessions")
+                    .tag("type", type.name())
+                    .tag("stage", "compressed")
+                    .baseUnit("bytes")
+                    .register(meterRegistry));
+        }
+    }
+
+    // 압축 세션 하나에 프레임을 보낸 것을 기록
+    public void record(EncodedFrame frame, WireFormat format) {
+        FrameSize size = frame.size(format, this::measure);
+        rawBytes.get(frame.type()).increment(size.raw());
+        compressedBytes.get(frame.type()).increment(size.compressed());
+    }
+
+    private FrameSize measure(WebSocketMessage<?> payload) {
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+
+        int raw;
+        if (payload instanceof TextMessage text) {
+            byte[] bytes = text.asBytes();
+            raw = bytes.length;
+            deflater.setInput(bytes);
+        } else {
+            var buffer = ((BinaryMessage) payload).getPayload().duplicate();
+            raw = buffer.remaining();
+            deflater.setInput(buffer);
+        }
+
+        // 출력 버퍼가 가득 찼으면 남은 출력이 있으므로 다시 호출
+        byte[] output = buffers.get();
+        int compressed = 0;
+        int written;
+        do {
+            written = deflater.deflate(output, 0, output.length, Deflater.SYNC_FLUSH);
+            compressed += written;
+        } while (written == output.length);
+
+        return new FrameSize(raw, Math.max(compressed - DEFLATE_TAIL_BYTES, 0));
+    }
+
+    public record FrameSize(int raw, int compressed) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.urikkiriserver.global.websocket;
+
+import com.example.urikkiriserver.global.error.exception.ErrorCode;
+import com.example.urikkiriserver.global.websocket.dto.WebSocketMessage;
+import com.example.urikkiriserver.global.websocket.dto.WebSocketMessageType;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * WebSocketMessage 인코딩 및 미리 인코딩된 고정 프레임 테이블
+ * CONNECTED, ErrorCode별 ERROR 메시지처럼 내용이 바뀌지 않는 메시지는
+ * 시작 시 모든 WireFormat으로 한 번만 인코딩해 두고 같은 프레임을 재사용함
+ */
+@Component
+public class WebSocketFrameCache {
+
+    private final WireFormatCodec codec;
+
+    private final Map<ClientType, EncodedFrame> connected = new EnumMap<>(ClientType.class);
+    private final Map<ErrorCode, EncodedFrame> errors = new EnumMap<>(ErrorCode.class);
+
+    public WebSocketFrameCache(WireFormatCodec codec) {
+        this.codec = codec;
+
+        connected.put(ClientType.LOBBY, encode(WebSocketMessage.of(
+                WebSocketMessageType.CONNECTED,
+                "WebSocket connection established. Send CREATE_ROOM or JOIN_ROOM message."
+        )).encodeAll());
+        connected.put(ClientType.GAME, encode(WebSocketMessage.of(
+                WebSocketMessageType.CONNECTED,
+                "Game WebSocket connection established. Send CONNECT_GAME message with room code."
+        )).encodeAll());
+
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errors.put(errorCode, encode(WebSocketMessage.of(WebSocketMessageType.ERROR, errorCode.getMessage())).encodeAll());
+        }
+    }
+
+    // 여러 세션에 공유할 프레임 생성 (포맷별 인코딩은 처음 보낼 때 한 번만)
+    public EncodedFrame encode(WebSocketMessage message) {
+        return new EncodedFrame(codec, message);
+    }
+
+    public EncodedFrame connected(ClientType clientType) {
+        return connected.get(clientType);
+    }
+
+    public EncodedFrame error(ErrorCode errorCode) {
+        return errors.get(errorCode);
+    }
+}
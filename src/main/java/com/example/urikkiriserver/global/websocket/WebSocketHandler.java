@@ -1,68 +1,88 @@
 package com.example.urikkiriserver.global.websocket;
 
-import com.example.urikkiriserver.domain.card.domain.repository.CardRepository;
+import com.example.urikkiriserver.domain.card.domain.CardCatalog;
 import com.example.urikkiriserver.domain.card.exception.CardNotFoundException;
 import com.example.urikkiriserver.domain.card.presentation.dto.response.CardResponse;
-import com.example.urikkiriserver.domain.play.domain.Participant;
-import com.example.urikkiriserver.domain.play.domain.repository.ParticipantRepository;
-import com.example.urikkiriserver.domain.play.domain.repository.RoomRepository;
-import com.example.urikkiriserver.domain.play.exception.RoomNotFoundException;
+import com.example.urikkiriserver.domain.play.domain.roster.ParticipantWriteBehind;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRoster;
+import com.example.urikkiriserver.domain.play.domain.roster.RoomRosterStore;
+import com.example.urikkiriserver.domain.play.domain.roster.RosterMember;
 import com.example.urikkiriserver.domain.play.exception.ParticipantNotFoundException;
 import com.example.urikkiriserver.domain.play.exception.ExaminerNotFoundException;
 import com.example.urikkiriserver.domain.play.exception.ExaminerCannotSubmitCardException;
+import com.example.urikkiriserver.domain.play.exception.RoomNotFoundException;
+import com.example.urikkiriserver.domain.play.service.ChangeExaminerService;
 import com.example.urikkiriserver.domain.play.service.CreateRoomService;
 import com.example.urikkiriserver.domain.play.service.JoinRoomService;
+import com.example.urikkiriserver.domain.play.service.LeaveRoomService;
+import com.example.urikkiriserver.domain.play.service.WinRoundService;
+import com.example.urikkiriserver.domain.quiz.domain.QuizCatalog;
 import com.example.urikkiriserver.domain.quiz.service.QueryRandomQuizService;
 import com.example.urikkiriserver.domain.user.domain.User;
-import com.example.urikkiriserver.domain.user.domain.repository.UserRepository;
+import com.example.urikkiriserver.domain.user.service.AwardXpService;
 import com.example.urikkiriserver.global.error.exception.UrikkiriException;
+import com.example.urikkiriserver.global.timer.RoomTimerService;
 import com.example.urikkiriserver.global.websocket.dto.*;
 import com.example.urikkiriserver.global.websocket.exception.*;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.urikkiriserver.global.websocket.mailbox.RoomMailboxDispatcher;
 import jakarta.annotation.Nullable;
-import jakarta.transaction.Transactional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Map;
 import java.util.List;
 import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class WebSocketHandler extends TextWebSocketHandler {
+public class WebSocketHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
 
     private final WebSocketSessionManager sessionManager;
+    private final WebSocketFrameCache frameCache;
+    private final RoomTimerService roomTimerService;
+    private final RoomMailboxDispatcher mailboxDispatcher;
+    private final RoomReaper roomReaper;
     private final CreateRoomService createRoomService;
     private final JoinRoomService joinRoomService;
-    private final ObjectMapper objectMapper;
+    private final LeaveRoomService leaveRoomService;
+    private final WinRoundService winRoundService;
+    private final ChangeExaminerService changeExaminerService;
+    private final RoomRosterStore roomRosterStore;
+    private final ParticipantWriteBehind participantWriteBehind;
+    private final InboundMessageDecoder messageDecoder;
     private final QueryRandomQuizService queryRandomQuizService;
+    private final QuizCatalog quizCatalog;
     private final GameRoundManager gameRoundManager;
-    private final CardRepository cardRepository;
-    private final RoomRepository roomRepository;
-    private final ParticipantRepository participantRepository;
-    private final UserRepository userRepository;
+    private final CardCatalog cardCatalog;
+    private final AwardXpService awardXpService;
 
     @Override
     public void afterConnectionEstablished(@Nullable WebSocketSession session) {
         if (session == null) return;
 
+        // 세션 등록 (송신 큐 생성 포함)
+        sessionManager.register(session);
+
         User user = (User) session.getAttributes().get("userPrincipal");
         ClientType clientType = (ClientType) session.getAttributes().get("clientType");
 
         if (user == null) {
             log.warn("User principal not found in session. Closing connection.");
             sendExceptionMessage(session, WebSocketAuthenticationRequired.EXCEPTION);
-            closeSession(session);
+            sessionManager.closeWhenFlushed(session, CloseStatus.POLICY_VIOLATION);
             return;
         }
 
@@ -72,55 +92,110 @@ public class WebSocketHandler extends TextWebSocketHandler {
 
         log.info("User {} connected to WebSocket as {} client", user.getNickname(), clientType);
 
-        // 클라이언트 타입별 연결 메시지
-        String connectionMessage = clientType == ClientType.LOBBY
-            ? "WebSocket connection established. Send CREATE_ROOM or JOIN_ROOM message."
-            : "Game WebSocket connection established. Send CONNECT_GAME message with room code.";
-
-        sendMessage(session, WebSocketMessage.of(
-                WebSocketMessageType.CONNECTED,
-                connectionMessage
-        ));
+        // 클라이언트 타입별 연결 메시지 (미리 인코딩된 프레임)
+        sessionManager.send(session, frameCache.connected(clientType));
     }
 
     @Override
     public void afterConnectionClosed(@Nullable WebSocketSession session, @NonNull CloseStatus status) {
         if (session == null) return;
 
-        // 세션이 속한 방 코드 찾기
-        String roomCode = sessionManager.getRoomCodeBySession(session);
+        // 세션 등록 해제 (속해 있던 방에서도 함께 제거)
+        SessionRegistration registration = sessionManager.unregister(session);
+        String roomCode = registration != null ? registration.getRoomCode() : null;
 
         if (roomCode != null) {
-            // 방에서 세션 제거
-            sessionManager.removeSession(roomCode, session);
-
             User user = (User) session.getAttributes().get("userPrincipal");
             log.info("User {} disconnected from room {}", user != null ? user.getNickname() : "Unknown", roomCode);
         }
     }
 
+    // 핸드셰이크에서 고를 수 있는 메시지 포맷 서브프로토콜 (요청하지 않으면 JSON)
+    @Override
+    public List<String> getSubProtocols() {
+        return WireFormat.subProtocols();
+    }
+
     @Override
     protected void handleTextMessage(@Nullable WebSocketSession session, @NonNull TextMessage message) {
+        handleInbound(session, message);
+    }
+
+    // CBOR로 인코딩된 클라이언트 메시지
+    @Override
+    protected void handleBinaryMessage(@Nullable WebSocketSession session, @NonNull BinaryMessage message) {
+        handleInbound(session, message);
+    }
+
+    private void handleInbound(@Nullable WebSocketSession session, org.springframework.web.socket.WebSocketMessage<?> message) {
         if (session == null) return;
 
         User user = (User) session.getAttributes().get("userPrincipal");
         if (user == null) return;
 
+        markActive(session);
+
+        SessionRegistration registration = sessionManager.getRegistration(session);
+        if (registration == null) return;
+
         try {
-            WebSocketMessage wsMessage = objectMapper.readValue(message.getPayload(), WebSocketMessage.class);
+            InboundMessage inbound = messageDecoder.decode(message);
+            String roomCode = inbound.roomCode();
 
-            switch (wsMessage.type()) {
+            // 세션의 메시지는 받은 순서대로 하나씩 처리 (SessionInbox)
+            // 방 코드가 없는 메시지(CREATE_ROOM 등)는 공유 방 상태를 건드리지 않으므로 방 mailbox를 거치지 않음
+            if (inbound.type() == WebSocketMessageType.CREATE_ROOM || roomCode == null || roomCode.isEmpty()) {
+                registration.getInbox().submit(null, () -> route(session, user, inbound));
+                return;
+            }
+
+            // 존재하는 방(또는 세션이 이미 속한 방)의 메시지만 mailbox로 보냄
+            // (임의의 방 코드로 mailbox와 활동 기록이 쌓이지 않도록 확인, I/O 스레드에서는 메모리만 봄)
+            if (roomCode.equals(registration.getRoomCode()) || roomRosterStore.find(roomCode).isPresent()) {
+                roomReaper.touch(roomCode);
+                registration.getInbox().submit(roomCode, () -> route(session, user, inbound));
+                return;
+            }
+
+            // 메모리에 없는 방은 DB 확인이 필요하므로 inbox 차례에 작업 스레드에서 확인
+            registration.getInbox().submit(roomCode, () -> admitRoom(session, roomCode), () -> route(session, user, inbound));
+        } catch (UrikkiriException e) {
+            sendExceptionMessage(session, e);
+        } catch (Exception e) {
+            log.error("Error handling WebSocket message", e);
+            sendExceptionMessage(session, WebSocketInvalidMessageFormat.EXCEPTION);
+        }
+    }
+
+    // 메모리에 없는 방을 DB에서 찾아 명단을 올리고, 없는 방이면 거절 (작업 스레드에서 실행)
+    private boolean admitRoom(WebSocketSession session, String roomCode) {
+        try {
+            roomRosterStore.get(roomCode);
+            roomReaper.touch(roomCode);
+            return true;
+        } catch (RoomNotFoundException e) {
+            sendExceptionMessage(session, WebSocketRoomNotFound.EXCEPTION);
+        } catch (Exception e) {
+            log.error("Error looking up room {}", roomCode, e);
+            sendExceptionMessage(session, WebSocketInvalidMessageFormat.EXCEPTION);
+        }
+        return false;
+    }
+
+    private void route(WebSocketSession session, User user, InboundMessage inbound) {
+        try {
+            switch (inbound.type()) {
                 case CREATE_ROOM -> handleCreateRoom(session, user);
-                case JOIN_ROOM -> handleJoinRoom(session, user, wsMessage.roomCode());
-                case ROOM_EXIT -> handleRoomExit(session, user, wsMessage.roomCode());
-                case LEAVE_ROOM -> handleLeaveRoom(session, user, wsMessage.roomCode());
-                case CONNECT_GAME -> handleConnectGame(session, user, wsMessage.roomCode());
-                case SUBMIT_CARD -> handleSubmitCard(session, user, wsMessage);
-                case EXAMINER_SELECT -> handleExaminerSelect(session, user, wsMessage);
+                case JOIN_ROOM -> handleJoinRoom(session, user, inbound.roomCode());
+                case ROOM_EXIT -> handleRoomExit(session, user, inbound.roomCode());
+                case LEAVE_ROOM -> handleLeaveRoom(session, user, inbound.roomCode());
+                case CONNECT_GAME -> handleConnectGame(session, user, inbound.roomCode());
+                case SUBMIT_CARD -> handleSubmitCard(session, user, (InboundMessage.SubmitCard) inbound);
+                case EXAMINER_SELECT -> handleExaminerSelect(session, user, (InboundMessage.ExaminerSelect) inbound);
                 default -> {
                     String roomCode = sessionManager.getRoomCodeBySession(session);
                     if (roomCode != null) {
-                        log.info("Message received in room {}: {}", roomCode, message.getPayload());
+                        log.info("Message received in room {}: {}", roomCode, inbound);
                     }
                 }
             }
@@ -130,10 +205,24 @@ public class WebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    @Override
+    protected void handlePongMessage(@NonNull WebSocketSession session, @NonNull PongMessage message) {
+        // keepalive ping에 대한 응답
+        markActive(session);
+    }
+
+    private void markActive(WebSocketSession session) {
+        SessionRegistration registration = sessionManager.getRegistration(session);
+        if (registration != null) {
+            registration.markActive();
+        }
+    }
+
     private void handleCreateRoom(WebSocketSession session, User user) {
         try {
             var roomResponse = createRoomService.execute(user);
             String roomCode = roomResponse.roomCode();
+            roomReaper.touch(roomCode);
 
             // 세션을 방에 추가
             sessionManager.addSession(roomCode, session);
@@ -177,8 +266,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
             );
 
             // 방의 모든 로비 클라이언트에게 전체 참가자 목록 브로드캐스트 (새로 들어온 유저 포함)
-            sessionManager.getLobbySessionsByRoom(roomCode)
-                    .forEach(s -> sendMessage(s, allParticipantsMessage));
+            sessionManager.broadcastToLobby(roomCode, allParticipantsMessage);
 
             log.info("User {} joined room {} (total: {})",
                     user.getNickname(), roomCode, joinRoomResponse.participants().size());
@@ -188,32 +276,24 @@ public class WebSocketHandler extends TextWebSocketHandler {
             if (joinRoomResponse.participants().size() == 4) {
                 log.info("Room {} is now full. Will notify clients to launch Unity game in 3 seconds...", roomCode);
 
-                // 3초 지연 후 게임 준비 메시지 전송
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(3000); // 3초 대기
+                // 3초 지연 후 게임 준비 메시지 전송 (방이 비거나 누가 나가면 취소됨)
+                // 타이머는 휠 스레드에서 방 mailbox로 넘기기만 하고, 실제 처리는 방의 순서를 따름
+                roomTimerService.schedule(roomCode, 3, TimeUnit.SECONDS, () -> mailboxDispatcher.dispatch(roomCode, () -> {
+                    // 게임 준비 완료 데이터
+                    var gameReadyData = GameReadyData.of(joinRoomResponse.participants());
 
-                        // 게임 준비 완료 데이터
-                        var gameReadyData = GameReadyData.of(joinRoomResponse.participants());
-
-                        var gameReadyMessage = WebSocketMessage.withData(
-                                WebSocketMessageType.GAME_READY,
-                                roomCode,
-                                gameReadyData,
-                                "All players ready! Launch Unity game with your token and room code."
-                        );
-
-                        // 방의 모든 로비 클라이언트에게 게임 준비 메시지 브로드캐스트
-                        sessionManager.getLobbySessionsByRoom(roomCode)
-                                .forEach(s -> sendMessage(s, gameReadyMessage));
+                    var gameReadyMessage = WebSocketMessage.withData(
+                            WebSocketMessageType.GAME_READY,
+                            roomCode,
+                            gameReadyData,
+                            "All players ready! Launch Unity game with your token and room code."
+                    );
 
-                        log.info("GAME_READY event sent to room {} after 3 seconds delay", roomCode);
+                    // 방의 모든 로비 클라이언트에게 게임 준비 메시지 브로드캐스트
+                    sessionManager.broadcastToLobby(roomCode, gameReadyMessage);
 
-                    } catch (InterruptedException e) {
-                        log.error("Thread interrupted while waiting to send GAME_READY", e);
-                        Thread.currentThread().interrupt();
-                    }
-                }).start();
+                    log.info("GAME_READY event sent to room {} after 3 seconds delay", roomCode);
+                }));
             }
 
         } catch (UrikkiriException e) {
@@ -228,6 +308,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
      * Unity 게임이 게임 서버로 연결하는 핸들러
      * GAME_READY를 받은 후 Unity가 별도의 WebSocket 연결로 토큰+방코드를 보냄
      * 로비 연결과는 독립적인 게임 세션 연결
+     * 로비 연결에서 그대로 CONNECT_GAME을 보내면 새 소켓 없이 해당 연결이 게임 세션 역할도 맡음
      */
     private void handleConnectGame(WebSocketSession session, User user, String roomCode) {
         if (roomCode == null || roomCode.isEmpty()) {
@@ -236,15 +317,15 @@ public class WebSocketHandler extends TextWebSocketHandler {
         }
 
         try {
-            // 방과 참가자 검증
-            var room = roomRepository.findByCode(roomCode)
-                    .orElseThrow(() -> RoomNotFoundException.EXCEPTION);
+            // 방과 참가자 검증 (방 명단 기준)
+            var roster = roomRosterStore.get(roomCode);
 
-            var participant = participantRepository.findByRoomIdIdAndUserIdId(room.getId(), user.getId())
+            var participant = roster.findByUserId(user.getId())
                     .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
 
             // 게임 세션에 추가
             sessionManager.addGameSession(roomCode, session);
+            sessionManager.bindParticipant(session, participant.getParticipantId());
 
             log.info("User {} (ID: {}) connected to game server for room {} - isExaminer: {}, session open: {}, ({}/4)",
                     user.getNickname(), user.getId(), roomCode, participant.isExaminer(),
@@ -252,7 +333,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
 
             // 게임 세션에 4명이 모두 연결되었는지 확인
             var gameSessions = sessionManager.getGameSessionsByRoom(roomCode);
-            var participants = participantRepository.findAllByRoomIdIdWithUser(room.getId());
+            var participants = roster.getMembers();
 
             if (gameSessions.size() == participants.size()) {
                 log.info("All 4 players connected to game server for room {}. Starting game...", roomCode);
@@ -272,44 +353,40 @@ public class WebSocketHandler extends TextWebSocketHandler {
     /**
      * 모든 플레이어가 게임 서버에 연결된 후 실제 게임을 시작
      */
-    private void startGameForConnectedPlayers(String roomCode, List<Participant> participants) {
+    private void startGameForConnectedPlayers(String roomCode, List<RosterMember> participants) {
         try {
-            // 게임 라운드 초기화
-            gameRoundManager.startGame(roomCode);
-
-            // 현재 출제자 찾기 및 히스토리에 추가
+            // 현재 출제자 찾기
             var currentExaminer = participants.stream()
-                    .filter(Participant::isExaminer)
+                    .filter(RosterMember::isExaminer)
                     .findFirst()
                     .orElseThrow(() -> ExaminerNotFoundException.EXCEPTION);
-            gameRoundManager.addExaminerHistory(roomCode, currentExaminer.getId());
+
+            // 게임 라운드 초기화 (WAITING -> SUBMITTING, 이미 시작된 방이면 중복 시작하지 않음)
+            long[] participantIds = participants.stream().mapToLong(RosterMember::getParticipantId).toArray();
+            if (!gameRoundManager.startGame(roomCode, participantIds, currentExaminer.getParticipantId(), cardCatalog.newDeck())) {
+                log.info("Game already started in room {}. Ignoring duplicate start.", roomCode);
+                return;
+            }
+            var state = gameRoundManager.getState(roomCode);
 
             // 랜덤 질문 조회
-            var quiz = queryRandomQuizService.execute();
+            var quiz = queryRandomQuizService.execute(roomCode);
 
             // 참가자 정보 리스트 생성
             var participantInfoList = participants.stream()
-                    .map(p -> ParticipantInfo.of(
-                            p.getUserId().getId(),
-                            p.getUserId().getNickname(),
-                            p.getUserId().getLevel(),
-                            p.isExaminer()
-                    ))
+                    .map(ParticipantInfo::from)
                     .toList();
 
-            // 게임 시작 데이터
-            var gameStartData = GameStartData.of(participantInfoList, quiz);
+            // 출제자를 제외한 플레이어에게 손패 배분
+            var hands = state.dealHands();
 
-            var gameStartMessage = WebSocketMessage.withData(
+            // 게임 세션에 연결된 모든 플레이어에게 자신의 손패를 담은 게임 시작 메시지 전송
+            sendToEachPlayer(roomCode, state, participants, hands, hand -> WebSocketMessage.withData(
                     WebSocketMessageType.GAME_START,
                     roomCode,
-                    gameStartData,
+                    GameStartData.of(participantInfoList, quiz, hand),
                     "Game is starting! All 4 players connected."
-            );
-
-            // 게임 세션에 연결된 모든 플레이어에게 게임 시작 메시지 전송
-            sessionManager.getGameSessionsByRoom(roomCode)
-                    .forEach(s -> sendMessage(s, gameStartMessage));
+            ));
 
             log.info("Game started for room {} with {} players", roomCode, participants.size());
 
@@ -318,36 +395,49 @@ public class WebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    private void handleSubmitCard(WebSocketSession session, User user, WebSocketMessage wsMessage) {
-        String roomCode = wsMessage.roomCode();
+    private void handleSubmitCard(WebSocketSession session, User user, InboundMessage.SubmitCard submitCard) {
+        String roomCode = submitCard.roomCode();
         if (roomCode == null || roomCode.isEmpty()) {
             sendExceptionMessage(session, WebSocketRoomCodeRequired.EXCEPTION);
             return;
         }
 
         try {
-            // data 필드에서 card_id 추출
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = objectMapper.convertValue(wsMessage.data(), Map.class);
-
-            // 참가자 정보 먼저 조회 (출제자 확인용)
-            var room = roomRepository.findByCode(roomCode)
-                    .orElseThrow(() -> RoomNotFoundException.EXCEPTION);
+            // 제출 단계가 아니면 (게임 시작 전, 선택 중, 종료 후) DB 조회 없이 무시
+            var state = gameRoundManager.getState(roomCode);
+            if (state == null || state.getPhase() != GamePhase.SUBMITTING) {
+                log.debug("Ignoring late SUBMIT_CARD from {} in room {}", user.getNickname(), roomCode);
+                return;
+            }
 
-            var participant = participantRepository.findByRoomIdIdAndUserIdId(room.getId(), user.getId())
-                    .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
+            // 게임 세션에 바인딩된 참가자 ID 사용 (없을 때만 방 명단에서 조회)
+            Long participantId = getBoundParticipantId(session);
+            if (participantId == null) {
+                participantId = roomRosterStore.get(roomCode).findByUserId(user.getId())
+                        .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION)
+                        .getParticipantId();
+            }
 
             // 출제자는 카드를 제출할 수 없음
-            if (participant.isExaminer()) {
+            if (state.isExaminer(participantId)) {
                 throw ExaminerCannotSubmitCardException.EXCEPTION;
             }
 
+            // 이번 라운드에 이미 제출한 참가자의 중복 프레임은 무시
+            if (state.hasSubmitted(participantId)) {
+                log.debug("Ignoring duplicate SUBMIT_CARD from {} in room {}", user.getNickname(), roomCode);
+                return;
+            }
+
+            // data 필드의 card_id (디코딩 시 이미 Long으로 읽음)
+            Long cardId = submitCard.cardId();
+
             // card_id가 없거나 null인 경우 (시간 초과 등)
-            if (data == null || !data.containsKey("card_id") || data.get("card_id") == null) {
+            if (cardId == null) {
                 log.info("User {} did not submit card (timeout) in room {}", user.getNickname(), roomCode);
 
-                // 제출 시도 카운팅 (null 카드)
-                gameRoundManager.incrementSubmissionAttempt(roomCode);
+                // 제출 시도 기록 (null 카드)
+                if (!state.submit(participantId, RoomGameState.NO_CARD)) return;
 
                 // 제출 실패 확인 메시지
                 sendMessage(session, WebSocketMessage.of(
@@ -356,34 +446,33 @@ public class WebSocketHandler extends TextWebSocketHandler {
                         "No card submitted (timeout)"
                 ));
 
-                log.info("Submission attempts in room {}: {}/3", roomCode, gameRoundManager.getSubmissionAttempts(roomCode));
+                log.info("Submission attempts in room {}: {}/{}", roomCode,
+                        state.getSubmissionAttempts(), state.getSubmissionsPerRound());
 
                 // 3명 모두 제출 시도 완료 확인 (null 포함)
-                if (gameRoundManager.isAllCardsSubmitted(roomCode)) {
-                    notifyExaminerAllCardsSubmitted(roomCode, room.getId());
+                if (state.tryBeginJudging()) {
+                    notifyExaminerAllCardsSubmitted(roomCode, state);
                 }
 
                 return;
             }
 
-            Long cardId = ((Number) data.get("card_id")).longValue();
             log.info("User {} submitting card_id: {} in room {}", user.getNickname(), cardId, roomCode);
 
-            // 카드 정보 조회
-            var card = cardRepository.findById(cardId)
-                    .orElseThrow(() -> CardNotFoundException.EXCEPTION);
+            // 이번 라운드에 배분받은 손패의 카드만 제출 가능
+            if (!state.holdsCard(participantId, cardId)) {
+                throw CardNotFoundException.EXCEPTION;
+            }
 
-            // 제출된 카드 정보 생성 및 저장
-            var submittedCardInfo = SubmittedCardInfo.of(participant, card);
-            gameRoundManager.submitCard(roomCode, submittedCardInfo);
+            // 카드 정보 조회 (카드 카탈로그, 없는 카드면 CardNotFoundException)
+            var card = cardCatalog.getById(cardId);
 
-            // 제출 시도 카운팅 (실제 카드)
-            gameRoundManager.incrementSubmissionAttempt(roomCode);
+            // 제출 카드 저장 (실제 카드)
+            if (!state.submit(participantId, card.cardId())) return;
 
-            log.info("User {} submitted card {} in room {} (attempts: {}/3, actual cards: {})",
-                    user.getNickname(), card.getWord(), roomCode,
-                    gameRoundManager.getSubmissionAttempts(roomCode),
-                    gameRoundManager.getSubmittedCount(roomCode));
+            log.info("User {} submitted card {} in room {} (attempts: {}/{})",
+                    user.getNickname(), card.word(), roomCode,
+                    state.getSubmissionAttempts(), state.getSubmissionsPerRound());
 
             // 1. 제출 확인용 메시지
             var submittedCardData = SubmittedCardInfo.of(user.getId(), card);
@@ -394,12 +483,11 @@ public class WebSocketHandler extends TextWebSocketHandler {
                     submittedCardData,
                     "Card submitted successfully"
             );
-            sessionManager.getGameSessionsByRoom(roomCode)
-                    .forEach(s -> sendMessage(s, cardSubmittedMessage));
+            sessionManager.broadcastToGame(roomCode, cardSubmittedMessage);
 
             // 2. 3명 모두 제출 시도 완료 확인 (null 포함)
-            if (gameRoundManager.isAllCardsSubmitted(roomCode)) {
-                notifyExaminerAllCardsSubmitted(roomCode, room.getId());
+            if (state.tryBeginJudging()) {
+                notifyExaminerAllCardsSubmitted(roomCode, state);
             }
 
         } catch (UrikkiriException e) {
@@ -413,23 +501,20 @@ public class WebSocketHandler extends TextWebSocketHandler {
     /**
      * 출제자에게 모든 카드 제출 완료 알림 (실제 제출된 카드만 전송)
      */
-    private void notifyExaminerAllCardsSubmitted(String roomCode, Long roomId) {
+    private void notifyExaminerAllCardsSubmitted(String roomCode, RoomGameState state) {
         try {
             log.info("All cards submission attempts completed in room {}. Notifying examiner...", roomCode);
 
             // 제출된 모든 카드 조회 (null이 아닌 실제 제출된 카드만)
-            var allSubmittedCards = gameRoundManager.getSubmittedCards(roomCode);
+            var allSubmittedCards = loadSubmittedCards(state);
 
             log.info("Actual submitted cards in room {}: {} (null cards excluded)", roomCode, allSubmittedCards.size());
 
             // 출제자 찾기
-            var participants = participantRepository.findAllByRoomIdIdWithUser(roomId);
-            var examiner = participants.stream()
-                    .filter(Participant::isExaminer)
-                    .findFirst()
+            var examiner = roomRosterStore.get(roomCode).findByParticipantId(state.getExaminerParticipantId())
                     .orElseThrow(() -> ExaminerNotFoundException.EXCEPTION);
 
-            log.info("Found examiner: {} (User ID: {})", examiner.getUserId().getNickname(), examiner.getUserId().getId());
+            log.info("Found examiner: {} (User ID: {})", examiner.getNickname(), examiner.getUserId());
 
             // 출제자의 게임 세션 찾기
             var gameSessions = sessionManager.getGameSessionsByRoom(roomCode);
@@ -449,24 +534,14 @@ public class WebSocketHandler extends TextWebSocketHandler {
 
             log.info("Active game sessions in room {}: {}", roomCode, activeGameSessions.size());
 
-            var examinerSession = activeGameSessions.stream()
-                    .filter(s -> {
-                        User sessionUser = (User) s.getAttributes().get("userPrincipal");
-                        if (sessionUser != null) {
-                            log.info("Checking session for user: {} (ID: {}), isOpen: {}",
-                                    sessionUser.getNickname(), sessionUser.getId(), s.isOpen());
-                            return sessionUser.getId().equals(examiner.getUserId().getId());
-                        }
-                        log.warn("Session with null userPrincipal found in room {}", roomCode);
-                        return false;
-                    })
-                    .findFirst();
+            var examinerSession = Optional.ofNullable(
+                    sessionManager.findGameSession(roomCode, examiner.getUserId()));
 
             // 출제자에게만 제출된 카드 목록 전송 (실제 카드만)
             if (examinerSession.isPresent()) {
                 var examinerSess = examinerSession.get();
                 log.info("Sending ALL_CARDS_SUBMITTED to examiner: {} (session open: {})",
-                        examiner.getUserId().getNickname(), examinerSess.isOpen());
+                        examiner.getNickname(), examinerSess.isOpen());
 
                 try {
                     sendMessage(examinerSess, WebSocketMessage.withData(
@@ -483,7 +558,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
                 }
             } else {
                 log.error("Examiner session not found for user {} (ID: {}) in room {}. Active sessions: {}",
-                        examiner.getUserId().getNickname(), examiner.getUserId().getId(), roomCode, activeGameSessions.size());
+                        examiner.getNickname(), examiner.getUserId(), roomCode, activeGameSessions.size());
 
                 // 디버깅: 현재 활성 세션의 모든 유저 출력
                 activeGameSessions.forEach(s -> {
@@ -498,64 +573,69 @@ public class WebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    @Transactional
-    protected void handleExaminerSelect(WebSocketSession session, User user, WebSocketMessage wsMessage) {
-        String roomCode = wsMessage.roomCode();
+    private void handleExaminerSelect(WebSocketSession session, User user, InboundMessage.ExaminerSelect examinerSelect) {
+        String roomCode = examinerSelect.roomCode();
         if (roomCode == null || roomCode.isEmpty()) {
             sendExceptionMessage(session, WebSocketRoomCodeRequired.EXCEPTION);
             return;
         }
 
         try {
-            // data 필드에서 participant_id 추출
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = objectMapper.convertValue(wsMessage.data(), Map.class);
+            // 선택 단계가 아니면 (제출 중, 이미 선택 완료, 종료 후) DB 조회 없이 무시
+            var state = gameRoundManager.getState(roomCode);
+            if (state == null || state.getPhase() != GamePhase.JUDGING) {
+                log.debug("Ignoring late EXAMINER_SELECT from {} in room {}", user.getNickname(), roomCode);
+                return;
+            }
 
-            if (data == null || !data.containsKey("participant_id")) {
-                log.error("Invalid EXAMINER_SELECT message. data: {}", wsMessage.data());
+            // 게임 세션에 바인딩된 참가자가 현재 출제자가 아니면 거절
+            Long boundParticipantId = getBoundParticipantId(session);
+            if (boundParticipantId != null && !state.isExaminer(boundParticipantId)) {
+                sendExceptionMessage(session, WebSocketInvalidMessageFormat.EXCEPTION);
+                return;
+            }
+
+            // data 필드의 participant_id (디코딩 시 이미 Long으로 읽음)
+            Long selectedParticipantId = examinerSelect.participantId();
+
+            if (selectedParticipantId == null) {
+                log.error("Invalid EXAMINER_SELECT message. data: {}", examinerSelect.data());
                 sendExceptionMessage(session, WebSocketInvalidMessageFormat.EXCEPTION);
                 return;
             }
 
-            Long selectedParticipantId = ((Number) data.get("participant_id")).longValue();
             log.info("Examiner {} selecting participant_id: {}", user.getNickname(), selectedParticipantId);
 
-            // Room 조회
-            var room = roomRepository.findByCode(roomCode)
-                    .orElseThrow(() -> RoomNotFoundException.EXCEPTION);
+            // 제출된 카드에서 승자의 카드 정보 찾기 (점수 반영 전에 검증)
+            long winnerCardId = state.getSubmittedCardId(selectedParticipantId);
+            if (winnerCardId == RoomGameState.NO_CARD) {
+                throw CardNotFoundException.EXCEPTION;
+            }
+            var winnerCard = SubmittedCardInfo.of(selectedParticipantId, cardCatalog.getById(winnerCardId));
+
+            // 방 명단 조회
+            var roster = roomRosterStore.get(roomCode);
 
             // 현재 사용자가 출제자인지 확인
-            var examiner = participantRepository.findByRoomIdIdAndUserIdId(room.getId(), user.getId())
+            var examiner = roster.findByUserId(user.getId())
                     .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
 
-            if (!examiner.isExaminer()) {
+            if (!state.isExaminer(examiner.getParticipantId())) {
                 sendExceptionMessage(session, WebSocketInvalidMessageFormat.EXCEPTION);
                 return;
             }
 
-            // 선택된 참가자 조회 (participantId로 직접 조회)
-            var winner = participantRepository.findByIdWithUser(selectedParticipantId)
-                    .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
-
-            // 승자의 bananaScore 증가
-            winner.winGame();
-            participantRepository.save(winner);
-
-            // 제출된 카드에서 승자의 카드 정보 찾기
-            var submittedCards = gameRoundManager.getSubmittedCards(roomCode);
-            var winnerCard = submittedCards.stream()
-                    .filter(card -> card.participantId().equals(selectedParticipantId))
-                    .findFirst()
-                    .orElseThrow(() -> CardNotFoundException.EXCEPTION);
+            // 승자의 bananaScore 증가 (명단 갱신 후 DB에는 UPDATE만 실행)
+            var winner = winRoundService.execute(roster, selectedParticipantId);
 
             log.info("Examiner {} selected participant {} (score: {}) in room {}",
-                    user.getNickname(), winner.getUserId().getNickname(), winner.getBananaScore(), roomCode);
+                    user.getNickname(), winner.getNickname(), winner.getBananaScore(), roomCode);
 
             // 모든 참가자에게 출제자의 선택 알림
             var selectionDto = ExaminerSelectionDto.of(
-                    winner.getUserId().getId(),
+                    winner.getUserId(),
                     winnerCard,
-                    winner.getUserId().getNickname(),
+                    winner.getNickname(),
                     winner.getBananaScore()
             );
 
@@ -566,63 +646,38 @@ public class WebSocketHandler extends TextWebSocketHandler {
                     "Examiner has selected a card"
             );
 
-            sessionManager.getGameSessionsByRoom(roomCode)
-                    .forEach(s -> sendMessage(s, selectionMessage));
+            sessionManager.broadcastToGame(roomCode, selectionMessage);
 
             // 5점 달성 여부 확인
             if (winner.getBananaScore() >= 5) {
-                log.info("Game ended in room {}. Winner: {} with 5 points", roomCode, winner.getUserId().getNickname());
-                endGame(roomCode, room.getId());
+                log.info("Game ended in room {}. Winner: {} with 5 points", roomCode, winner.getNickname());
+                state.end();
+                endGame(roomCode, roster);
             } else {
-                // 다음 턴으로 진행 - 제출된 카드 초기화
-                gameRoundManager.clearSubmittedCards(roomCode);
-
-                // 출제자 교체 로직
-                var allParticipants = participantRepository.findAllByRoomIdIdWithUser(room.getId());
-                var participantIds = allParticipants.stream()
-                        .map(Participant::getId)
-                        .toList();
-
                 // 다음 출제자 선택 (Participant ID 기준)
-                Long nextExaminerParticipantId = gameRoundManager.selectNextExaminer(roomCode, participantIds);
-                gameRoundManager.addExaminerHistory(roomCode, nextExaminerParticipantId);
-
-                // 현재 출제자를 false로 설정
-                examiner.setExaminer(false);
+                long nextExaminerParticipantId = state.selectNextExaminer();
 
-                // 새 출제자를 true로 설정
-                var nextExaminer = allParticipants.stream()
-                        .filter(p -> p.getId().equals(nextExaminerParticipantId))
-                        .findFirst()
-                        .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
-                nextExaminer.setExaminer(true);
+                // 다음 턴으로 진행 (JUDGING -> SUBMITTING, 제출된 카드 초기화 및 출제자 히스토리 추가)
+                state.nextRound(nextExaminerParticipantId);
 
-                // DB에 저장
-                participantRepository.save(examiner);
-                participantRepository.save(nextExaminer);
+                // 출제자 교체 (현재 출제자 false, 새 출제자 true)
+                var nextExaminer = changeExaminerService.execute(roster, nextExaminerParticipantId);
 
                 // 새로운 질문 조회
-                var nextQuiz = queryRandomQuizService.execute();
+                var nextQuiz = queryRandomQuizService.execute(roomCode);
 
-                log.info("Next turn in room {}. New examiner: {}", roomCode, nextExaminer.getUserId().getNickname());
+                log.info("Next turn in room {}. New examiner: {}", roomCode, nextExaminer.getNickname());
 
-                // 다음 턴 정보 전송
-                var nextRoundData = NextRoundData.of(
-                        nextExaminer.getUserId().getId(),
-                        nextExaminer.getUserId().getNickname(),
-                        nextQuiz
-                );
+                // 새 출제자를 제외한 플레이어에게 손패 다시 배분
+                var hands = state.dealHands();
 
-                var nextRoundMessage = WebSocketMessage.withData(
+                // 모든 게임 참가자에게 자신의 손패를 담은 다음 턴 시작 알림
+                sendToEachPlayer(roomCode, state, roster.getMembers(), hands, hand -> WebSocketMessage.withData(
                         WebSocketMessageType.NEXT_ROUND,
                         roomCode,
-                        nextRoundData,
+                        NextRoundData.of(nextExaminer.getUserId(), nextExaminer.getNickname(), nextQuiz, hand),
                         "Next turn is starting!"
-                );
-
-                // 모든 게임 참가자에게 다음 턴 시작 알림
-                sessionManager.getGameSessionsByRoom(roomCode)
-                        .forEach(s -> sendMessage(s, nextRoundMessage));
+                ));
             }
 
         } catch (UrikkiriException e) {
@@ -633,30 +688,29 @@ public class WebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    @Transactional
-    protected void endGame(String roomCode, Long roomId) {
+    private void endGame(String roomCode, RoomRoster roster) {
         try {
-            // 모든 참가자 조회
-            var participants = participantRepository.findAllByRoomIdIdWithUser(roomId);
+            // 라운드 중 모아 둔 점수/출제자 변경을 즉시 DB에 반영 (진행 중인 주기 flush가 있으면 끝날 때까지 기다림)
+            if (!participantWriteBehind.flush(roomCode)) {
+                log.warn("Participant scores for room {} are not yet durable; the write-behind will retry", roomCode);
+            }
 
-            // bananaScore 기준으로 내림차순 정렬
-            var sortedParticipants = participants.stream()
-                    .sorted(Comparator.comparingInt(Participant::getBananaScore).reversed())
+            // bananaScore 기준으로 내림차순 정렬 (점수는 방 명단 기준)
+            var sortedParticipants = roster.getMembers().stream()
+                    .sorted(Comparator.comparingInt(RosterMember::getBananaScore).reversed())
                     .toList();
 
-            // 순위별 경험치 배열 (1위: 20, 2위: 10, 3위: 5, 4위: 2)
-            int[] xpRewards = {20, 10, 5, 2};
+            // 순위별 경험치 지급 (한 번에 조회/저장하고 랭킹도 해당 유저만 갱신)
+            var users = awardXpService.execute(sortedParticipants.stream().map(RosterMember::getUserId).toList());
 
-            // 순위 정보 생성 및 경험치 지급
+            // 순위 정보 생성
             List<PlayerRankInfo> rankings = new ArrayList<>();
-            for (int i = 0; i < sortedParticipants.size() && i < xpRewards.length; i++) {
+            for (int i = 0; i < sortedParticipants.size(); i++) {
                 var participant = sortedParticipants.get(i);
-                var user = participant.getUserId();
+                var user = users.get(participant.getUserId());
+                if (user == null) continue;
 
-                // 경험치 추가 및 레벨 자동 계산
-                int xp = xpRewards[i];
-                user.addXp(xp);
-                userRepository.save(user);
+                int xp = AwardXpService.rewardFor(i + 1);
 
                 // 순위 정보 생성
                 rankings.add(PlayerRankInfo.of(
@@ -679,11 +733,11 @@ public class WebSocketHandler extends TextWebSocketHandler {
             );
 
             // 모든 게임 참가자에게 게임 종료 메시지 전송
-            sessionManager.getGameSessionsByRoom(roomCode)
-                    .forEach(s -> sendMessage(s, endMessage));
+            sessionManager.broadcastToGame(roomCode, endMessage);
 
-            // 게임 상태 정리
+            // 게임 상태 정리 (다음 게임은 새 출제 순서로 시작)
             gameRoundManager.endGame(roomCode);
+            quizCatalog.release(roomCode);
 
             log.info("Game ended in room {}. Final rankings sent to all participants.", roomCode);
 
@@ -695,61 +749,66 @@ public class WebSocketHandler extends TextWebSocketHandler {
                     WebSocketMessageType.ERROR,
                     "게임 종료 중 오류가 발생했습니다."
             );
-            sessionManager.getGameSessionsByRoom(roomCode)
-                    .forEach(s -> sendMessage(s, errorMessage));
+            sessionManager.broadcastToGame(roomCode, errorMessage);
     }
     }
 
-    private void sendExceptionMessage(WebSocketSession session, UrikkiriException exception) {
-        sendMessage(session, WebSocketMessage.of(
-                WebSocketMessageType.ERROR,
-                exception.getErrorCode().getMessage()
-        ));
+    // 이번 라운드에 실제로 제출된 카드 정보 (null 카드 제외, 카드 상세는 카드 카탈로그에서 조회)
+    private List<SubmittedCardInfo> loadSubmittedCards(RoomGameState state) {
+        List<SubmittedCardInfo> submittedCards = new ArrayList<>(RoomGameState.MAX_PLAYERS);
+        for (int slot = 0; slot < state.getPlayerCount(); slot++) {
+            long cardId = state.getSubmittedCardIdAt(slot);
+            if (cardId != RoomGameState.NO_CARD) {
+                submittedCards.add(SubmittedCardInfo.of(state.getParticipantId(slot), cardCatalog.getById(cardId)));
+            }
+        }
+        return submittedCards;
     }
 
-    private void sendMessage(WebSocketSession session, WebSocketMessage message) {
-        try {
-            // 세션이 열려있는지 확인
-            if (!session.isOpen()) {
-                User user = (User) session.getAttributes().get("userPrincipal");
-                log.warn("Attempted to send message to closed session for user: {}",
-                        user != null ? user.getNickname() : "Unknown");
-                return;
-            }
+    /**
+     * 슬롯마다 해당 플레이어의 손패를 담은 메시지를 그 플레이어의 게임 세션에만 전송
+     * 손패가 플레이어별로 다르므로 방 전체 브로드캐스트 대신 플레이어마다 인코딩함
+     */
+    private void sendToEachPlayer(String roomCode, RoomGameState state, List<RosterMember> members,
+                                  List<List<CardResponse>> hands,
+                                  Function<List<CardResponse>, WebSocketMessage> messageFactory) {
+        for (int slot = 0; slot < hands.size(); slot++) {
+            long participantId = state.getParticipantId(slot);
+            var hand = hands.get(slot);
+
+            members.stream()
+                    .filter(member -> member.getParticipantId() == participantId)
+                    .findFirst()
+                    .map(member -> sessionManager.findGameSession(roomCode, member.getUserId()))
+                    .ifPresent(playerSession -> sendMessage(playerSession, messageFactory.apply(hand)));
+        }
+    }
 
-            String json = objectMapper.writeValueAsString(message);
-            session.sendMessage(new TextMessage(json));
+    // CONNECT_GAME으로 게임 세션에 바인딩된 Participant ID (바인딩 전이면 null)
+    private Long getBoundParticipantId(WebSocketSession session) {
+        SessionRegistration registration = sessionManager.getRegistration(session);
+        return registration != null ? registration.getParticipantId() : null;
+    }
 
-            // 성공 로그 (디버깅용)
-            User user = (User) session.getAttributes().get("userPrincipal");
-            log.debug("Message sent successfully to user: {} (type: {})",
-                    user != null ? user.getNickname() : "Unknown", message.type());
-        } catch (IOException e) {
-            User user = (User) session.getAttributes().get("userPrincipal");
-            log.error("Error sending WebSocket message to user: {} (type: {}). Error: {}",
-                    user != null ? user.getNickname() : "Unknown", message.type(), e.getMessage());
-        }
+    private void sendExceptionMessage(WebSocketSession session, UrikkiriException exception) {
+        // ErrorCode별 ERROR 메시지는 미리 인코딩된 프레임 사용
+        sessionManager.send(session, frameCache.error(exception.getErrorCode()));
     }
 
-    private void closeSession(WebSocketSession session) {
-        try {
-            session.close();
-        } catch (IOException e) {
-            log.error("Error closing WebSocket session", e);
-        }
+    private void sendMessage(WebSocketSession session, WebSocketMessage message) {
+        sessionManager.send(session, message);
+        log.debug("Message sent to session {} (type: {})", session.getId(), message.type());
     }
 
-    @Transactional
-    protected void handleRoomExit(WebSocketSession session, User user, String roomCode) {
+    private void handleRoomExit(WebSocketSession session, User user, String roomCode) {
         if (roomCode == null || roomCode.isEmpty()) {
             sendExceptionMessage(session, WebSocketRoomCodeRequired.EXCEPTION);
             return;
         }
 
         try {
-            // Room 조회
-            var room = roomRepository.findByCode(roomCode)
-                    .orElseThrow(() -> RoomNotFoundException.EXCEPTION);
+            // 방 명단 조회
+            var roster = roomRosterStore.get(roomCode);
 
             // 게임이 시작되었는지 확인
             if (gameRoundManager.isGameStarted(roomCode)) {
@@ -760,16 +819,15 @@ public class WebSocketHandler extends TextWebSocketHandler {
                 return;
             }
 
-            // Participant 조회
-            var participant = participantRepository.findByRoomIdIdAndUserIdId(room.getId(), user.getId())
-                    .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
-
-            // Participant 삭제
-            participantRepository.delete(participant);
+            // Participant 삭제 (방 명단에서도 제거)
+            leaveRoomService.execute(roster, user.getId());
 
             // 세션 제거
             sessionManager.removeSession(roomCode, session);
 
+            // 방이 더 이상 가득 차 있지 않으므로 예약된 GAME_READY 등 취소
+            roomTimerService.cancelAll(roomCode);
+
             log.info("User {} exited room {} before game start", user.getNickname(), roomCode);
 
             // 1. 나간 사용자에게 확인 메시지
@@ -780,7 +838,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
             ));
 
             // 2. 남은 참가자들에게 알림
-            var remainingParticipants = participantRepository.findAllByRoomIdIdWithUser(room.getId());
+            var remainingParticipants = roster.getMembers();
 
             if (!remainingParticipants.isEmpty()) {
                 var exitNotification = UserExitDto.of(
@@ -797,12 +855,12 @@ public class WebSocketHandler extends TextWebSocketHandler {
                 );
 
                 // 남은 로비 참가자들에게만 브로드캐스트
-                sessionManager.getLobbySessionsByRoom(roomCode)
-                        .forEach(s -> sendMessage(s, exitMessage));
+                sessionManager.broadcastToLobby(roomCode, exitMessage);
 
                 log.info("Room {} now has {} participants remaining", roomCode, remainingParticipants.size());
             } else {
-                log.info("Room {} is now empty. Consider cleanup.", roomCode);
+                mailboxDispatcher.remove(roomCode);
+                log.info("Room {} is now empty. RoomReaper will clean it up if it stays idle.", roomCode);
             }
 
         } catch (UrikkiriException e) {
@@ -818,27 +876,31 @@ public class WebSocketHandler extends TextWebSocketHandler {
      * 개별 유저만 삭제하고 방은 유지 (남은 사람들은 계속 게임 가능)
      * 모든 유저가 나가면 participantRepository에서 해당 방의 유저 정보를 모두 삭제
      */
-    @Transactional
-    protected void handleLeaveRoom(WebSocketSession session, User user, String roomCode) {
+    private void handleLeaveRoom(WebSocketSession session, User user, String roomCode) {
         if (roomCode == null || roomCode.isEmpty()) {
             sendExceptionMessage(session, WebSocketRoomCodeRequired.EXCEPTION);
             return;
         }
 
         try {
-            // Room 조회
-            var room = roomRepository.findByCode(roomCode)
-                    .orElseThrow(() -> RoomNotFoundException.EXCEPTION);
+            // 방 명단 조회
+            var roster = roomRosterStore.get(roomCode);
 
-            // Participant 조회
-            var participant = participantRepository.findByRoomIdIdAndUserIdId(room.getId(), user.getId())
-                    .orElseThrow(() -> ParticipantNotFoundException.EXCEPTION);
+            // Participant 삭제 (roomCode와 participantId로 특정 유저만 삭제, 방 명단에서도 제거)
+            var participant = leaveRoomService.execute(roster, user.getId());
 
             // 나간 사용자가 출제자였는지 확인
             boolean wasExaminer = participant.isExaminer();
 
-            // Participant 삭제 (roomCode와 participantId로 특정 유저만 삭제)
-            participantRepository.delete(participant);
+            // 게임 중이면 게임 상태에서도 슬롯 제거 (플레이어 수, 라운드당 제출 인원, 출제자 슬롯이 명단과 맞도록)
+            var state = gameRoundManager.getState(roomCode);
+            boolean inGame = state != null && state.isInProgress();
+            if (inGame && state.removePlayer(participant.getParticipantId())) {
+                wasExaminer = true;
+            }
+
+            // 세션을 방에서 빼기 전에 로비 세션을 찾아 둠 (로비 소켓이 게임 역할까지 가진 단일 소켓이면 이 세션 자체임)
+            WebSocketSession lobbySession = sessionManager.findLobbySession(roomCode, user.getId());
 
             // 세션 제거
             sessionManager.removeSession(roomCode, session);
@@ -853,26 +915,33 @@ public class WebSocketHandler extends TextWebSocketHandler {
             ));
 
             // 로비 세션이 있다면 게임 종료 메시지 전송
-            sessionManager.getLobbySessionsByRoom(roomCode).stream()
-                    .filter(s -> {
-                        User sessionUser = (User) s.getAttributes().get("userPrincipal");
-                        return sessionUser != null && sessionUser.getId().equals(user.getId());
-                    }).findFirst().ifPresent(webSocketSession -> sendMessage(webSocketSession, WebSocketMessage.of(
-                    WebSocketMessageType.ROOM_EXIT,
-                    roomCode,
-                    "Game has been Successfully Ended"
-            )));
+            if (lobbySession != null) {
+                sendMessage(lobbySession, WebSocketMessage.of(
+                        WebSocketMessageType.ROOM_EXIT,
+                        roomCode,
+                        "Game has been Successfully Ended"
+                ));
+            }
 
             // 2. 남은 참가자 확인
-            var remainingParticipants = participantRepository.findAllByRoomIdIdWithUser(room.getId());
+            var remainingParticipants = roster.getMembers();
 
             if (!remainingParticipants.isEmpty()) {
                 // 나간 사용자가 출제자였다면 새로운 출제자 선정
                 if (wasExaminer) {
-                    var newExaminer = remainingParticipants.get(0);
-                    newExaminer.setExaminer(true);
-                    participantRepository.save(newExaminer);
-                    log.info("New examiner selected in room {}: {}", roomCode, newExaminer.getUserId().getNickname());
+                    var newExaminer = changeExaminerService.execute(roster, remainingParticipants.get(0).getParticipantId());
+                    log.info("New examiner selected in room {}: {}", roomCode, newExaminer.getNickname());
+                }
+
+                if (inGame) {
+                    // 출제자가 나갔거나 제출할 사람이 남지 않으면 이번 라운드를 이어갈 수 없으므로 게임 종료
+                    if (wasExaminer || state.getSubmissionsPerRound() < 1) {
+                        log.info("Ending game in room {} because {} left mid-game", roomCode, user.getNickname());
+                        endGame(roomCode, roster);
+                    } else if (state.tryBeginJudging()) {
+                        // 나간 사람만 제출하지 않은 상태였다면 남은 인원으로 바로 선택 단계 시작
+                        notifyExaminerAllCardsSubmitted(roomCode, state);
+                    }
                 }
 
                 // 남은 참가자들에게 알림
@@ -890,8 +959,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
                 );
 
                 // 남은 게임 세션에 브로드캐스트
-                sessionManager.getGameSessionsByRoom(roomCode)
-                        .forEach(s -> sendMessage(s, exitMessage));
+                sessionManager.broadcastToGame(roomCode, exitMessage);
 
                 log.info("Room {} now has {} participants remaining (can continue playing)", roomCode, remainingParticipants.size());
             } else {
@@ -900,8 +968,11 @@ public class WebSocketHandler extends TextWebSocketHandler {
 
                 // 게임 상태 정리 (메모리 정리)
                 gameRoundManager.endGame(roomCode);
+                quizCatalog.release(roomCode);
+                roomTimerService.cancelAll(roomCode);
+                mailboxDispatcher.remove(roomCode);
 
-                // Room은 삭제하지 않음 - 새로운 참가자들이 다시 사용 가능
+                // Room은 바로 삭제하지 않음 - 새로운 참가자들이 다시 사용 가능 (계속 비어 있으면 RoomReaper가 정리)
                 log.info("Room {} is now empty and ready for new players", roomCode);
             }
 
@@ -1,48 +1,93 @@
 package com.example.urikkiriserver.global.websocket;
 
-import com.example.urikkiriserver.global.utils.WebSocketUtils;
-import com.example.urikkiriserver.global.websocket.dto.WebSocketMessage;
-import com.example.urikkiriserver.global.websocket.dto.WebSocketMessageType;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
 
+import java.nio.ByteBuffer;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * WebSocket ping/pong 기반 연결 유지
+ * 세션을 시간 버킷에 나눠 담고 1초마다 한 버킷만 검사하여 한꺼번에 ping이 몰리지 않도록 함
+ * - 최근 수신이 없는 세션에만 ping 프레임 전송
+ * - pong 응답이 기한을 넘긴 세션은 닫아서 afterConnectionClosed의 정리 로직을 타게 함
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class WebSocketKeepAliveScheduler {
 
-    private final WebSocketSessionManager sessionManager;
+    private static final int BUCKET_COUNT = 10;    // 1초 간격 × 10 버킷 = 세션당 10초마다 검사
+    private static final CloseStatus PONG_TIMEOUT = CloseStatus.SESSION_NOT_RELIABLE.withReason("Pong timeout");
 
-    @Scheduled(fixedRate = 10000) // 10초마다 실행
+    private final WebSocketProperties.KeepAlive properties;
+    private final Set<SessionRegistration>[] buckets;
+    private final Counter pingsSent;
+    private final Counter sessionsReaped;
+
+    private int currentBucket;
+
+    @SuppressWarnings("unchecked")
+    public WebSocketKeepAliveScheduler(WebSocketProperties webSocketProperties, MeterRegistry meterRegistry) {
+        this.properties = webSocketProperties.keepAlive();
+        this.buckets = new Set[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = ConcurrentHashMap.newKeySet();
+        }
+
+        this.pingsSent = Counter.builder("websocket.keepalive.pings").register(meterRegistry);
+        this.sessionsReaped = Counter.builder("websocket.keepalive.reaped").register(meterRegistry);
+    }
+
+    // 연결 유지 대상에 세션 추가
+    public void track(SessionRegistration registration) {
+        bucketOf(registration).add(registration);
+    }
+
+    // 연결 종료 시 대상에서 제거
+    public void untrack(SessionRegistration registration) {
+        bucketOf(registration).remove(registration);
+    }
+
+    @Scheduled(fixedRate = 1000)
     public void sendKeepAlive() {
-        // 로비 세션들에게 전송
-        Set<WebSocketSession> lobbySessions = sessionManager.getAllLobbySessions();
-        sendToSessions(lobbySessions, "Lobby");
+        Set<SessionRegistration> bucket = buckets[currentBucket];
+        currentBucket = (currentBucket + 1) % BUCKET_COUNT;
 
-        // 게임 세션들에게 전송
-        Set<WebSocketSession> gameSessions = sessionManager.getAllGameSessions();
-        sendToSessions(gameSessions, "Game");
+        long now = System.currentTimeMillis();
+        bucket.forEach(registration -> check(registration, now));
     }
 
-    private void sendToSessions(Set<WebSocketSession> sessions, String type) {
-        if (sessions.isEmpty()) return;
-        
-        sessions.forEach(session -> {
-            if (session.isOpen()) {
-                try {
-                    WebSocketUtils.sendObject(
-                            WebSocketMessage.of(WebSocketMessageType.KEEPALIVE, "KEEPALIVE"),
-                            session
-                    );
-                } catch (Exception e) {
-                    log.error("Failed to send KEEPALIVE to {} session: {}", type, e.getMessage());
-                }
+    private void check(SessionRegistration registration, long now) {
+        if (!registration.getSession().isOpen()) return;
+
+        long pingSentAt = registration.getPingSentAt();
+        if (pingSentAt != 0) {
+            // pong이 기한 내에 오지 않으면 끊긴 연결로 보고 정리
+            if (now - pingSentAt > properties.pongTimeoutMillis()) {
+                log.info("Pong overdue for session {} (user: {}). Closing.",
+                        registration.getSession().getId(), registration.getUserId());
+                sessionsReaped.increment();
+                registration.getOutbound().terminate(PONG_TIMEOUT);
             }
-        });
+            return;
+        }
+
+        // 최근에 수신이 있었던 세션은 ping 생략
+        if (now - registration.getLastActivityAt() < properties.idleMillis()) return;
+
+        if (registration.getOutbound().enqueue(new PingMessage(ByteBuffer.allocate(0)), 0)) {
+            registration.markPingSent(now);
+            pingsSent.increment();
+        }
+    }
+
+    private Set<SessionRegistration> bucketOf(SessionRegistration registration) {
+        return buckets[Math.floorMod(registration.getSession().getId().hashCode(), BUCKET_COUNT)];
     }
 }
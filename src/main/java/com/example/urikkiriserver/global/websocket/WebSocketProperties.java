@@ -0,0 +1,51 @@
+package com.example.urikkiriserver.global.websocket;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "urikkiri.websocket")
+public record WebSocketProperties(
+    @DefaultValue Inbound inbound,
+    @DefaultValue Outbound outbound,
+    @DefaultValue KeepAlive keepAlive,
+    @DefaultValue Mailbox mailbox,
+    @DefaultValue Compression compression
+) {
+
+    // 수신 프레임 설정
+    public record Inbound(
+        @DefaultValue("8192") int maxFrameBytes           // 컨테이너 수신 버퍼 크기, 바이너리는 바이트 수 / 텍스트는 디코딩된 문자 수(Tomcat 기준) 제한
+    ) {
+    }
+
+    // 세션별 송신 큐 설정
+    public record Outbound(
+        @DefaultValue("5000") long sendTimeLimitMillis,   // 한 프레임 전송에 허용되는 최대 시간
+        @DefaultValue("524288") long bufferSizeLimit,     // 세션별 대기 가능한 최대 바이트
+        @DefaultValue("256") int messageLimit,            // 세션별 대기 가능한 최대 메시지 수
+        @DefaultValue("4") int senderThreads              // 비동기 전송을 시작하는 스레드 수 (전송 완료를 기다리지 않음)
+    ) {
+    }
+
+    // ping/pong 기반 연결 유지 설정
+    public record KeepAlive(
+        @DefaultValue("10000") long idleMillis,           // 이 시간 동안 수신이 없던 세션에만 ping 전송
+        @DefaultValue("15000") long pongTimeoutMillis     // ping 이후 pong을 기다리는 최대 시간
+    ) {
+    }
+
+    // 방별 메시지 처리(mailbox) 설정
+    public record Mailbox(
+        @DefaultValue("16") int workerThreads,            // 모든 방이 공유하는 처리 스레드 수 (DB 접근 포함)
+        @DefaultValue("32") int throughput                // 한 방이 스레드를 양보하기 전까지 연속 처리하는 메시지 수
+    ) {
+    }
+
+    // permessage-deflate 협상 설정 (클라이언트가 제안한 경우에만 적용)
+    public record Compression(
+        @DefaultValue("true") boolean enabled,                // false면 permessage-deflate를 협상하지 않음
+        @DefaultValue("true") boolean serverContextTakeover,  // false면 서버가 메시지마다 압축 사전을 초기화
+        @DefaultValue("true") boolean clientContextTakeover   // false면 클라이언트도 메시지마다 초기화 (클라이언트/서버 inflate 윈도우 절약)
+    ) {
+    }
+}
@@ -1,31 +1,116 @@
 package com.example.urikkiriserver.global.websocket;
 
+import com.example.urikkiriserver.domain.user.domain.User;
+import com.example.urikkiriserver.global.websocket.dto.WebSocketMessage;
+import com.example.urikkiriserver.global.websocket.mailbox.RoomMailboxDispatcher;
+import com.example.urikkiriserver.global.websocket.outbound.SessionOutboundDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 // WebSocket 세션을 방별로 관리하는 매니저
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class WebSocketSessionManager {
 
+    private final WebSocketFrameCache frameCache;
+    private final SessionOutboundDispatcher outboundDispatcher;
+    private final RoomMailboxDispatcher mailboxDispatcher;
+    private final WebSocketKeepAliveScheduler keepAliveScheduler;
+    private final WebSocketCompressionMetrics compressionMetrics;
+
+    // sessionId -> SessionRegistration (세션별 방 코드, 클라이언트 타입, 유저/참가자 ID)
+    private final Map<String, SessionRegistration> registrations = new ConcurrentHashMap<>();
+
     // roomCode -> Set<WebSocketSession> (로비 클라이언트용)
     private final Map<String, Set<WebSocketSession>> lobbyRoomSessions = new ConcurrentHashMap<>();
 
     // roomCode -> Set<WebSocketSession> (게임 클라이언트용)
     private final Map<String, Set<WebSocketSession>> gameRoomSessions = new ConcurrentHashMap<>();
 
+    // 연결된 세션을 등록 (방 참가 전)
+    public SessionRegistration register(WebSocketSession session) {
+        return registrations.computeIfAbsent(session.getId(), id -> {
+            User user = (User) session.getAttributes().get("userPrincipal");
+            ClientType clientType = (ClientType) session.getAttributes().get("clientType");
+            WireFormat wireFormat = WireFormat.negotiate(
+                    session.getAcceptedProtocol(), (WireFormat) session.getAttributes().get("wireFormat"));
+            SessionRegistration registration = new SessionRegistration(
+                    session,
+                    clientType != null ? clientType : ClientType.LOBBY,
+                    wireFormat,
+                    user != null ? user.getId() : null,
+                    outboundDispatcher.open(session),
+                    mailboxDispatcher.openInbox()
+            );
+            keepAliveScheduler.track(registration);
+            return registration;
+        });
+    }
+
+    // 세션 등록 해제 (방에서도 함께 제거), 등록 정보가 없으면 null
+    public SessionRegistration unregister(WebSocketSession session) {
+        SessionRegistration registration = registrations.remove(session.getId());
+        if (registration == null) return null;
+
+        keepAliveScheduler.untrack(registration);
+        outboundDispatcher.close(registration.getOutbound());
+        if (registration.getRoomCode() != null) {
+            removeFromRoomSets(registration.getRoomCode(), session);
+        }
+        return registration;
+    }
+
+    // 세션 등록 정보 조회
+    public SessionRegistration getRegistration(WebSocketSession session) {
+        return registrations.get(session.getId());
+    }
+
+    // 게임 세션에 Participant ID 연결
+    public void bindParticipant(WebSocketSession session, Long participantId) {
+        register(session).setParticipantId(participantId);
+    }
+
     // 방에 로비 세션을 추가
     public void addLobbySession(String roomCode, WebSocketSession session) {
-        lobbyRoomSessions.computeIfAbsent(roomCode, k -> new CopyOnWriteArraySet<>()).add(session);
+        moveToRoom(roomCode, session).addRole(ClientType.LOBBY);
+        lobbyRoomSessions.compute(roomCode, (code, sessions) -> {
+            Set<WebSocketSession> roomSessions = sessions != null ? sessions : new CopyOnWriteArraySet<>();
+            roomSessions.add(session);
+            return roomSessions;
+        });
     }
 
-    // 방에 게임 세션을 추가
+    /**
+     * 방에 게임 세션을 추가
+     * 별도 게임 소켓(기존 방식)뿐 아니라 이미 같은 방의 로비 세션인 연결도 그대로 게임 역할을 추가함
+     * (한 연결로 로비/게임 메시지를 모두 받으므로 플레이어당 소켓/핸드셰이크가 하나로 줄어듦)
+     * 같은 유저의 다른 게임 세션이 남아 있으면 게임 역할에서 제외하여 유저당 게임 세션은 하나만 유지
+     */
     public void addGameSession(String roomCode, WebSocketSession session) {
-        gameRoomSessions.computeIfAbsent(roomCode, k -> new CopyOnWriteArraySet<>()).add(session);
+        SessionRegistration registration = moveToRoom(roomCode, session);
+        if (registration.hasRole(ClientType.LOBBY)) {
+            log.info("Promoting lobby session {} of user {} to game session in room {}",
+                    session.getId(), registration.getUserId(), roomCode);
+        }
+        registration.addRole(ClientType.GAME);
+
+        gameRoomSessions.compute(roomCode, (code, sessions) -> {
+            Set<WebSocketSession> roomSessions = sessions != null ? sessions : new CopyOnWriteArraySet<>();
+            roomSessions.removeIf(existing -> existing != session && demoteIfSameUser(existing, registration.getUserId()));
+            roomSessions.add(session);
+            return roomSessions;
+        });
     }
 
     // 방에 세션을 추가 (레거시 호환)
@@ -35,22 +120,13 @@ public class WebSocketSessionManager {
 
     // 방에서 세션을 제거 (로비 및 게임 모두 확인)
     public void removeSession(String roomCode, WebSocketSession session) {
-        // 로비 세션 제거
-        Set<WebSocketSession> lobbySessions = lobbyRoomSessions.get(roomCode);
-        if (lobbySessions != null) {
-            lobbySessions.remove(session);
-            if (lobbySessions.isEmpty()) {
-                lobbyRoomSessions.remove(roomCode);
-            }
-        }
+        removeFromRoomSets(roomCode, session);
 
-        // 게임 세션 제거
-        Set<WebSocketSession> gameSessions = gameRoomSessions.get(roomCode);
-        if (gameSessions != null) {
-            gameSessions.remove(session);
-            if (gameSessions.isEmpty()) {
-                gameRoomSessions.remove(roomCode);
-            }
+        SessionRegistration registration = registrations.get(session.getId());
+        if (registration != null && roomCode.equals(registration.getRoomCode())) {
+            registration.setRoomCode(null);
+            registration.setParticipantId(null);
+            registration.clearRoles();
         }
     }
 
@@ -69,36 +145,127 @@ public class WebSocketSessionManager {
         return getLobbySessionsByRoom(roomCode);
     }
 
+    // 특정 방에서 해당 유저의 게임 세션 찾기
+    public WebSocketSession findGameSession(String roomCode, Long userId) {
+        return findByRole(getGameSessionsByRoom(roomCode), ClientType.GAME, userId);
+    }
+
+    // 특정 방에서 해당 유저의 로비 세션 찾기 (게임 역할을 함께 가진 단일 소켓 포함)
+    public WebSocketSession findLobbySession(String roomCode, Long userId) {
+        return findByRole(getLobbySessionsByRoom(roomCode), ClientType.LOBBY, userId);
+    }
+
     // 특정 세션이 속한 방 코드 찾기
     public String getRoomCodeBySession(WebSocketSession session) {
-        // 로비 세션 확인
-        String roomCode = lobbyRoomSessions.entrySet().stream()
-                .filter(entry -> entry.getValue().contains(session))
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
+        SessionRegistration registration = registrations.get(session.getId());
+        return registration != null ? registration.getRoomCode() : null;
+    }
+
+    // 방의 로비 역할 세션에 브로드캐스트 (인코딩은 한 번만)
+    public void broadcastToLobby(String roomCode, WebSocketMessage message) {
+        broadcast(withRole(getLobbySessionsByRoom(roomCode), ClientType.LOBBY), message);
+    }
+
+    // 방의 게임 역할 세션에 브로드캐스트 (인코딩은 한 번만)
+    public void broadcastToGame(String roomCode, WebSocketMessage message) {
+        broadcast(withRole(getGameSessionsByRoom(roomCode), ClientType.GAME), message);
+    }
+
+    // 여러 세션에 같은 메시지 전송: 인코딩은 포맷별로 한 번, 전송은 세션 수만큼
+    public void broadcast(Collection<WebSocketSession> sessions, WebSocketMessage message) {
+        if (sessions.isEmpty()) return;
 
-        if (roomCode != null) return roomCode;
+        EncodedFrame frame = frameCache.encode(message);
+        sessions.forEach(s -> send(s, frame));
+    }
+
+    // 단일 세션에 메시지 전송
+    public void send(WebSocketSession session, WebSocketMessage message) {
+        send(session, frameCache.encode(message));
+    }
 
-        // 게임 세션 확인
-        return gameRoomSessions.entrySet().stream()
-                .filter(entry -> entry.getValue().contains(session))
-                .map(Map.Entry::getKey)
+    // 프레임을 세션의 WireFormat으로 골라 단일 세션의 송신 큐에 넣음 (블로킹하지 않음)
+    public void send(WebSocketSession session, EncodedFrame frame) {
+        SessionRegistration registration = registrations.get(session.getId());
+        if (registration == null || !session.isOpen()) {
+            log.warn("Attempted to send message to closed session for user: {}",
+                    registration != null ? registration.getUserId() : "Unknown");
+            return;
+        }
+
+        WireFormat format = registration.getWireFormat();
+        if (registration.getOutbound().enqueue(frame.in(format), frame.length(format)) && registration.isCompressed()) {
+            compressionMetrics.record(frame, format);
+        }
+    }
+
+    // 대기 중인 메시지를 모두 보낸 뒤 세션을 닫음
+    public void closeWhenFlushed(WebSocketSession session, CloseStatus status) {
+        SessionRegistration registration = registrations.get(session.getId());
+        if (registration != null) {
+            registration.getOutbound().closeWhenFlushed(status);
+        }
+    }
+
+    /**
+     * 방 세션 목록 중 현재 해당 역할을 가진 세션만 (등록 해제됐거나 역할이 빠진 세션은 제외)
+     * 방 세션 목록 갱신과 역할 변경 사이에 보낸 메시지가 이미 역할을 잃은 세션으로 가지 않게 함
+     */
+    private List<WebSocketSession> withRole(Set<WebSocketSession> sessions, ClientType role) {
+        return sessions.stream()
+                .filter(s -> {
+                    SessionRegistration registration = registrations.get(s.getId());
+                    return registration != null && registration.hasRole(role);
+                })
+                .toList();
+    }
+
+    private WebSocketSession findByRole(Set<WebSocketSession> sessions, ClientType role, Long userId) {
+        return sessions.stream()
+                .filter(s -> {
+                    SessionRegistration registration = registrations.get(s.getId());
+                    return registration != null && registration.hasRole(role) && userId.equals(registration.getUserId());
+                })
                 .findFirst()
                 .orElse(null);
     }
 
-    // 모든 로비 세션 가져오기
-    public Set<WebSocketSession> getAllLobbySessions() {
-        Set<WebSocketSession> allSessions = new CopyOnWriteArraySet<>();
-        lobbyRoomSessions.values().forEach(allSessions::addAll);
-        return allSessions;
+    // 세션이 다른 방에 있었다면 이전 방에서 빼고 새 방 코드로 갱신
+    private SessionRegistration moveToRoom(String roomCode, WebSocketSession session) {
+        SessionRegistration registration = register(session);
+        String previousRoomCode = registration.getRoomCode();
+
+        if (previousRoomCode != null && !previousRoomCode.equals(roomCode)) {
+            removeFromRoomSets(previousRoomCode, session);
+            registration.setParticipantId(null);
+            registration.clearRoles();
+        }
+        registration.setRoomCode(roomCode);
+        return registration;
+    }
+
+    // 같은 유저의 세션이면 게임 역할을 빼고 true (로비 역할은 유지)
+    private boolean demoteIfSameUser(WebSocketSession existing, Long userId) {
+        SessionRegistration registration = registrations.get(existing.getId());
+        if (registration == null) return true;
+        if (userId == null || !userId.equals(registration.getUserId())) return false;
+
+        registration.removeRole(ClientType.GAME);
+        registration.setParticipantId(null);
+        return true;
     }
 
-    // 모든 게임 세션 가져오기
-    public Set<WebSocketSession> getAllGameSessions() {
-        Set<WebSocketSession> allSessions = new CopyOnWriteArraySet<>();
-        gameRoomSessions.values().forEach(allSessions::addAll);
-        return allSessions;
+    private void removeFromRoomSets(String roomCode, WebSocketSession session) {
+        // 로비 세션 제거
+        lobbyRoomSessions.computeIfPresent(roomCode, (code, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+
+        // 게임 세션 제거
+        gameRoomSessions.computeIfPresent(roomCode, (code, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
     }
-}
\ No newline at end of file
+}
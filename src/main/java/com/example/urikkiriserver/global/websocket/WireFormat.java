@@ -0,0 +1,48 @@
+package com.example.urikkiriserver.global.websocket;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 세션별 메시지 인코딩 방식
+ * JSON: 기본값, TextMessage 프레임
+ * CBOR: 바이너리 포맷 (모바일 Unity 클라이언트용), BinaryMessage 프레임이며 type은 WebSocketMessageType ordinal로 보냄
+ * 핸드셰이크 때 서브프로토콜(Sec-WebSocket-Protocol) 또는 format 쿼리 파라미터로 정함 (서브프로토콜 우선)
+ */
+public enum WireFormat {
+    JSON("urikkiri.json"),
+    CBOR("urikkiri.cbor");
+
+    private static final List<String> SUB_PROTOCOLS = Arrays.stream(values()).map(f -> f.subProtocol).toList();
+
+    private final String subProtocol;
+
+    WireFormat(String subProtocol) {
+        this.subProtocol = subProtocol;
+    }
+
+    public String getSubProtocol() {
+        return subProtocol;
+    }
+
+    // 서버가 받아들이는 서브프로토콜 목록
+    public static List<String> subProtocols() {
+        return SUB_PROTOCOLS;
+    }
+
+    // format 쿼리 파라미터 값 (json, cbor), 모르는 값이면 null
+    public static WireFormat fromParameter(String value) {
+        for (WireFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) return format;
+        }
+        return null;
+    }
+
+    // 협상된 서브프로토콜 → 쿼리 파라미터 → 기본값(JSON) 순서로 결정
+    public static WireFormat negotiate(String acceptedProtocol, WireFormat requested) {
+        for (WireFormat format : values()) {
+            if (format.subProtocol.equals(acceptedProtocol)) return format;
+        }
+        return requested != null ? requested : JSON;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.urikkiriserver.global.websocket;
+
+import com.example.urikkiriserver.global.websocket.dto.InboundMessage;
+import com.example.urikkiriserver.global.websocket.dto.WebSocketMessageType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * WireFormat별 인코더/디코더
+ * CBOR 매퍼는 애플리케이션 ObjectMapper 설정(SNAKE_CASE 등)을 그대로 복사해서 만들고,
+ * 송신 메시지의 WebSocketMessageType만 이름 대신 ordinal로 씀
+ * 수신 메시지는 type 이름으로 하위 타입을 고르므로 CBOR에서도 type은 문자열로 받음
+ */
+@Component
+public class WireFormatCodec {
+
+    private final Map<WireFormat, ObjectWriter> writers = new EnumMap<>(WireFormat.class);
+    private final Map<WireFormat, ObjectReader> readers = new EnumMap<>(WireFormat.class);
+
+    public WireFormatCodec(ObjectMapper objectMapper) {
+        ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory())
+                .registerModule(new SimpleModule().addSerializer(new MessageTypeOrdinalSerializer()));
+
+        writers.put(WireFormat.JSON, objectMapper.writer());
+        writers.put(WireFormat.CBOR, cborMapper.writer());
+        readers.put(WireFormat.JSON, objectMapper.readerFor(InboundMessage.class));
+        readers.put(WireFormat.CBOR, cborMapper.readerFor(InboundMessage.class));
+    }
+
+    // 포맷에 맞는 프레임으로 인코딩 (JSON은 TextMessage, 바이너리 포맷은 BinaryMessage)
+    // TextMessage도 UTF-8 바이트로 만들어 두어 길이 계산이나 전송 시 다시 인코딩하지 않음
+    public WebSocketMessage<?> encode(WireFormat format, Object message) {
+        try {
+            ObjectWriter writer = writers.get(format);
+            return format == WireFormat.JSON
+                    ? new TextMessage(writer.writeValueAsBytes(message))
+                    : new BinaryMessage(writer.writeValueAsBytes(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode WebSocket message as " + format, e);
+        }
+    }
+
+    public InboundMessage decode(String payload) throws IOException {
+        return readers.get(WireFormat.JSON).readValue(payload);
+    }
+
+    public InboundMessage decode(ByteBuffer payload) throws IOException {
+        return readers.get(WireFormat.CBOR).readValue(new ByteBufferBackedInputStream(payload.duplicate()));
+    }
+
+    // 바이너리 포맷에서 type을 ordinal 정수로 씀 (값 순서가 곧 프로토콜이므로 새 타입은 끝에만 추가)
+    private static class MessageTypeOrdinalSerializer extends StdSerializer<WebSocketMessageType> {
+
+        MessageTypeOrdinalSerializer() {
+            super(WebSocketMessageType.class);
+        }
+
+        @Override
+        public void serialize(WebSocketMessageType value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.ordinal());
+        }
+    }
+}
@@ -1,15 +1,16 @@
 package com.example.urikkiriserver.global.websocket.dto;
 
+import com.example.urikkiriserver.domain.card.presentation.dto.response.CardResponse;
 import com.example.urikkiriserver.domain.quiz.presentation.dto.response.QuizResponse;
 
 import java.util.List;
 
 public record GameStartData(
         List<ParticipantInfo> participants,
-        QuizResponse question
+        QuizResponse question,
+        List<CardResponse> cards     // 받는 플레이어의 손패 (출제자는 빈 목록)
 ) {
-    public static GameStartData of(List<ParticipantInfo> participants, QuizResponse question) {
-        return new GameStartData(participants, question);
+    public static GameStartData of(List<ParticipantInfo> participants, QuizResponse question, List<CardResponse> cards) {
+        return new GameStartData(participants, question, cards);
     }
 }
-
@@ -0,0 +1,102 @@
+package com.example.urikkiriserver.global.websocket.dto;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * 클라이언트 → 서버 메시지
+ * JSON을 한 번 읽으면서 type 값으로 바로 해당 record를 만들고, data 안의 값도 타입이 정해진 필드로 받음
+ * (Map으로 읽은 뒤 다시 변환하거나 Number를 캐스팅하지 않음)
+ * 서버가 처리하지 않는 type은 Other로 받음
+ */
+@JsonTypeInfo(
+        use = JsonTypeInfo.Id.NAME,
+        include = JsonTypeInfo.As.EXISTING_PROPERTY,
+        property = "type",
+        visible = true,
+        defaultImpl = InboundMessage.Other.class
+)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = InboundMessage.CreateRoom.class, name = "CREATE_ROOM"),
+        @JsonSubTypes.Type(value = InboundMessage.JoinRoom.class, name = "JOIN_ROOM"),
+        @JsonSubTypes.Type(value = InboundMessage.RoomExit.class, name = "ROOM_EXIT"),
+        @JsonSubTypes.Type(value = InboundMessage.LeaveRoom.class, name = "LEAVE_ROOM"),
+        @JsonSubTypes.Type(value = InboundMessage.ConnectGame.class, name = "CONNECT_GAME"),
+        @JsonSubTypes.Type(value = InboundMessage.SubmitCard.class, name = "SUBMIT_CARD"),
+        @JsonSubTypes.Type(value = InboundMessage.ExaminerSelect.class, name = "EXAMINER_SELECT")
+})
+public sealed interface InboundMessage {
+
+    WebSocketMessageType type();
+
+    String roomCode();
+
+    record CreateRoom(String roomCode) implements InboundMessage {
+        @Override
+        public WebSocketMessageType type() {
+            return WebSocketMessageType.CREATE_ROOM;
+        }
+    }
+
+    record JoinRoom(String roomCode) implements InboundMessage {
+        @Override
+        public WebSocketMessageType type() {
+            return WebSocketMessageType.JOIN_ROOM;
+        }
+    }
+
+    record RoomExit(String roomCode) implements InboundMessage {
+        @Override
+        public WebSocketMessageType type() {
+            return WebSocketMessageType.ROOM_EXIT;
+        }
+    }
+
+    record LeaveRoom(String roomCode) implements InboundMessage {
+        @Override
+        public WebSocketMessageType type() {
+            return WebSocketMessageType.LEAVE_ROOM;
+        }
+    }
+
+    record ConnectGame(String roomCode) implements InboundMessage {
+        @Override
+        public WebSocketMessageType type() {
+            return WebSocketMessageType.CONNECT_GAME;
+        }
+    }
+
+    // data: {"card_id": 12} (시간 초과로 제출하지 못한 경우 data 또는 card_id가 없음)
+    record SubmitCard(String roomCode, Data data) implements InboundMessage {
+        @Override
+        public WebSocketMessageType type() {
+            return WebSocketMessageType.SUBMIT_CARD;
+        }
+
+        public Long cardId() {
+            return data != null ? data.cardId() : null;
+        }
+
+        public record Data(Long cardId) {
+        }
+    }
+
+    // data: {"participant_id": 3}
+    record ExaminerSelect(String roomCode, Data data) implements InboundMessage {
+        @Override
+        public WebSocketMessageType type() {
+            return WebSocketMessageType.EXAMINER_SELECT;
+        }
+
+        public Long participantId() {
+            return data != null ? data.participantId() : null;
+        }
+
+        public record Data(Long participantId) {
+        }
+    }
+
+    // 서버가 처리하지 않는 type (없는 type 이름이면 디코딩 실패)
+    record Other(WebSocketMessageType type, String roomCode) implements InboundMessage {
+    }
+}
@@ -1,20 +1,24 @@
 package com.example.urikkiriserver.global.websocket.dto;
 
+import com.example.urikkiriserver.domain.card.presentation.dto.response.CardResponse;
 import com.example.urikkiriserver.domain.quiz.presentation.dto.response.QuizResponse;
 import lombok.Builder;
 
+import java.util.List;
+
 @Builder
 public record NextRoundData(
         Long newExaminerId,
         String newExaminerNickname,
-        QuizResponse quiz
+        QuizResponse quiz,
+        List<CardResponse> cards     // 받는 플레이어의 손패 (출제자는 빈 목록)
 ) {
-    public static NextRoundData of(Long newExaminerId, String newExaminerNickname, QuizResponse quiz) {
+    public static NextRoundData of(Long newExaminerId, String newExaminerNickname, QuizResponse quiz, List<CardResponse> cards) {
         return NextRoundData.builder()
                 .newExaminerId(newExaminerId)
                 .newExaminerNickname(newExaminerNickname)
                 .quiz(quiz)
+                .cards(cards)
                 .build();
     }
 }
-
@@ -1,6 +1,7 @@
 package com.example.urikkiriserver.global.websocket.dto;
 
 import com.example.urikkiriserver.domain.play.domain.Participant;
+import com.example.urikkiriserver.domain.play.domain.roster.RosterMember;
 
 public record ParticipantInfo(
     Long userId,
@@ -17,6 +18,15 @@ public record ParticipantInfo(
         );
     }
 
+    public static ParticipantInfo from(RosterMember member) {
+        return new ParticipantInfo(
+            member.getUserId(),
+            member.getNickname(),
+            member.getLevel(),
+            member.isExaminer()
+        );
+    }
+
     // User 정보로 ParticipantInfo 생성 (게임 시작용)
     public static ParticipantInfo of(Long userId, String nickname, int level, boolean isExaminer) {
         return new ParticipantInfo(userId, nickname, level, isExaminer);
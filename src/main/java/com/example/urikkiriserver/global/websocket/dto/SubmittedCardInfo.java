@@ -1,6 +1,7 @@
 package com.example.urikkiriserver.global.websocket.dto;
 
 import com.example.urikkiriserver.domain.card.domain.Card;
+import com.example.urikkiriserver.domain.card.presentation.dto.response.CardResponse;
 import com.example.urikkiriserver.domain.play.domain.Participant;
 
 public record SubmittedCardInfo(
@@ -25,4 +26,12 @@ public record SubmittedCardInfo(
                 card.getMeaning()
         );
     }
+    public static SubmittedCardInfo of(long participantId, CardResponse card) {
+        return new SubmittedCardInfo(
+                participantId,
+                card.cardId(),
+                card.word(),
+                card.meaning()
+        );
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.urikkiriserver.global.websocket.dto;
 
+// 바이너리 포맷(CBOR)에서는 ordinal로 보내므로 새 타입은 끝에만 추가하고 순서를 바꾸지 않음
 public enum WebSocketMessageType {
     CONNECTED,
 
@@ -0,0 +1,13 @@
+package com.example.urikkiriserver.global.websocket.exception;
+
+import com.example.urikkiriserver.global.error.exception.ErrorCode;
+import com.example.urikkiriserver.global.error.exception.UrikkiriException;
+
+public class WebSocketMessageTooLarge extends UrikkiriException {
+
+    public static final UrikkiriException EXCEPTION = new WebSocketMessageTooLarge();
+
+    private WebSocketMessageTooLarge() {
+        super(ErrorCode.WEBSOCKET_MESSAGE_TOO_LARGE);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.urikkiriserver.global.websocket.mailbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 방 하나의 메시지 처리 큐
+ * 같은 방의 작업은 들어온 순서대로 한 번에 하나씩만 실행되고,
+ * 다른 방의 mailbox는 공유 스레드 풀에서 동시에 실행됨
+ */
+@Slf4j
+class RoomMailbox implements Runnable {
+
+    private final String roomCode;
+    private final RoomMailboxDispatcher dispatcher;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // 방이 정리되어 작업을 모두 처리하면 제거되어야 하는 상태
+    private volatile boolean retired;
+
+    RoomMailbox(String roomCode, RoomMailboxDispatcher dispatcher) {
+        this.roomCode = roomCode;
+        this.dispatcher = dispatcher;
+    }
+
+    void add(Runnable task) {
+        queue.add(task);
+    }
+
+    // 실행 중이 아니면 스레드 풀에 실행 예약
+    void trySchedule() {
+        if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this);
+        }
+    }
+
+    // 대기 중인 작업도 없고 실행 중도 아닌 상태
+    boolean isIdle() {
+        return !scheduled.get() && queue.isEmpty();
+    }
+
+    void retire() {
+        retired = true;
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    @Override
+    public void run() {
+        try {
+            // 한 방이 스레드를 독점하지 않도록 정해진 개수만 처리하고 양보
+            for (int i = 0; i < dispatcher.getThroughput(); i++) {
+                Runnable task = queue.poll();
+                if (task == null) break;
+
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("Unhandled error while processing message for room {}", roomCode, e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            if (retired) {
+                dispatcher.removeIfIdle(roomCode, this);
+            }
+            trySchedule();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.urikkiriserver.global.websocket.mailbox;
+
+import com.example.urikkiriserver.global.websocket.WebSocketProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 방별 mailbox로 작업을 넘기는 실행기
+ * 같은 방의 메시지/타이머 작업은 순서대로 하나씩 실행되므로 방 상태를 락 없이 변경할 수 있고,
+ * 서로 다른 방은 공유 스레드 풀에서 병렬로 처리됨
+ */
+@Component
+public class RoomMailboxDispatcher {
+
+    private final WebSocketProperties.Mailbox properties;
+    private final ExecutorService workers;
+
+    // roomCode -> RoomMailbox
+    private final Map<String, RoomMailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public RoomMailboxDispatcher(WebSocketProperties webSocketProperties, MeterRegistry meterRegistry) {
+        this.properties = webSocketProperties.mailbox();
+        this.workers = Executors.newFixedThreadPool(
+                properties.workerThreads(),
+                new CustomizableThreadFactory("room-mailbox-")
+        );
+
+        Gauge.builder("game.mailboxes", mailboxes, Map::size)
+                .description("Rooms with an active message mailbox")
+                .register(meterRegistry);
+        Gauge.builder("game.mailboxes.queued", mailboxes,
+                        m -> m.values().stream().mapToInt(RoomMailbox::size).sum())
+                .description("Room messages waiting to be processed")
+                .register(meterRegistry);
+    }
+
+    // 방의 mailbox에 작업 추가 (들어온 순서대로 실행됨)
+    public void dispatch(String roomCode, Runnable task) {
+        RoomMailbox mailbox = mailboxes.compute(roomCode, (code, existing) -> {
+            RoomMailbox target = existing != null ? existing : new RoomMailbox(code, this);
+            target.add(task);
+            return target;
+        });
+        mailbox.trySchedule();
+    }
+
+    // 세션별 메시지 순서 큐 생성 (세션 등록 시)
+    public SessionInbox openInbox() {
+        return new SessionInbox(this);
+    }
+
+    // 방이 정리될 때 mailbox 제거 (처리 중이거나 남은 작업이 있으면 모두 처리한 뒤 제거)
+    public void remove(String roomCode) {
+        mailboxes.computeIfPresent(roomCode, (code, mailbox) -> {
+            if (mailbox.isIdle()) return null;
+
+            mailbox.retire();
+            return mailbox;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    void removeIfIdle(String roomCode, RoomMailbox mailbox) {
+        mailboxes.computeIfPresent(roomCode, (code, current) ->
+                current == mailbox && current.isIdle() ? null : current);
+    }
+
+    void execute(RoomMailbox mailbox) {
+        workers.execute(mailbox);
+    }
+
+    // 방과 무관한 작업을 공유 스레드 풀에서 실행 (SessionInbox의 방 코드 없는 메시지)
+    void executeUnbound(Runnable task) {
+        workers.execute(task);
+    }
+
+    int getThroughput() {
+        return properties.throughput();
+    }
+}
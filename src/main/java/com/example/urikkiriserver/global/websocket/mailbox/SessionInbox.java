@@ -0,0 +1,90 @@
+package com.example.urikkiriserver.global.websocket.mailbox;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 세션 하나가 보낸 메시지의 처리 순서를 지키는 큐
+ * 한 번에 하나의 메시지만 넘기고, 그 메시지가 끝나야 다음 메시지를 넘김
+ * 방 코드가 있는 메시지는 방의 mailbox에서(같은 방의 다른 세션 메시지와 직렬화), 없는 메시지는 공유 스레드 풀에서 실행됨
+ * (방 메시지가 mailbox에서 기다리는 동안 방 코드 없는 메시지가 먼저 처리되는 일이 없음)
+ * 입장 확인(admission)이 있는 메시지는 그 차례에 공유 스레드 풀에서 먼저 확인하고, 통과했을 때만 방 mailbox로 넘김
+ * SessionRegistration이 보관하므로 세션이 끊기면 함께 사라짐
+ */
+public class SessionInbox {
+
+    private final RoomMailboxDispatcher dispatcher;
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    SessionInbox(RoomMailboxDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    // 메시지 처리 작업 추가 (roomCode가 null이면 방 mailbox를 거치지 않음)
+    public void submit(String roomCode, Runnable task) {
+        queue.add(new Entry(roomCode, null, task));
+        runNext();
+    }
+
+    /**
+     * 방 mailbox에 넣기 전에 확인이 필요한 메시지 추가 (DB 조회처럼 I/O 스레드에서 하면 안 되는 확인)
+     * @param admission 이 메시지 차례에 공유 스레드 풀에서 실행, false면 메시지를 버림 (거절 응답은 admission이 보냄)
+     */
+    public void submit(String roomCode, BooleanSupplier admission, Runnable task) {
+        queue.add(new Entry(roomCode, admission, task));
+        runNext();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void runNext() {
+        while (!queue.isEmpty() && running.compareAndSet(false, true)) {
+            Entry next = queue.poll();
+            if (next == null) {
+                // 다른 스레드가 먼저 가져감, 그 사이 새로 들어온 메시지가 있는지 다시 확인
+                running.set(false);
+                continue;
+            }
+
+            Runnable step = () -> {
+                try {
+                    next.task().run();
+                } finally {
+                    running.set(false);
+                    runNext();
+                }
+            };
+            if (next.roomCode() == null) {
+                dispatcher.executeUnbound(step);
+            } else if (next.admission() == null) {
+                dispatcher.dispatch(next.roomCode(), step);
+            } else {
+                dispatcher.executeUnbound(() -> admit(next, step));
+            }
+            return;
+        }
+    }
+
+    // 확인을 통과하면 방 mailbox로 넘기고, 아니면 다음 메시지로 넘어감
+    private void admit(Entry entry, Runnable step) {
+        boolean admitted = false;
+        try {
+            admitted = entry.admission().getAsBoolean();
+        } finally {
+            if (admitted) {
+                dispatcher.dispatch(entry.roomCode(), step);
+            } else {
+                running.set(false);
+                runNext();
+            }
+        }
+    }
+
+    private record Entry(String roomCode, BooleanSupplier admission, Runnable task) {
+    }
+}
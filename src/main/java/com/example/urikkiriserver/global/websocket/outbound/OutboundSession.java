@@ -0,0 +1,255 @@
+package com.example.urikkiriserver.global.websocket.outbound;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션 하나의 송신 파이프라인
+ * 호출한 스레드는 큐에 넣기만 하고 바로 반환하며, 실제 전송은 SessionOutboundDispatcher의
+ * 송신 스레드가 세션별로 한 번에 하나씩 순서대로 시작함
+ * 전송은 컨테이너의 비동기 전송(RemoteEndpoint.Async)으로 시작만 하고 완료 콜백에서 다음 메시지를 이어 보내므로,
+ * 느린 클라이언트가 있어도 송신 스레드는 블로킹되지 않음
+ * 대기 중인 바이트/메시지 수가 한도를 넘거나 전송이 너무 오래 걸리면 세션을 닫음
+ */
+@Slf4j
+public class OutboundSession {
+
+    static final CloseStatus BUFFER_OVERFLOW = CloseStatus.SESSION_NOT_RELIABLE.withReason("Outbound buffer overflow");
+    static final CloseStatus SEND_TIME_EXCEEDED = CloseStatus.SESSION_NOT_RELIABLE.withReason("Send time limit exceeded");
+
+    private final WebSocketSession session;
+    private final SessionOutboundDispatcher dispatcher;
+
+    // 컨테이너 비동기 전송 (JSR-356 세션이 아니면 null, 이 경우 블로킹 전송)
+    private final RemoteEndpoint.Async async;
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    // 현재 전송 중인 프레임의 시작 시각 (전송 중이 아니면 0)
+    private volatile long sendStartedAt;
+
+    // 대기 중인 메시지를 모두 보낸 뒤 닫을 때 사용할 상태
+    private volatile CloseStatus pendingClose;
+
+    OutboundSession(WebSocketSession session, SessionOutboundDispatcher dispatcher) {
+        this.session = session;
+        this.dispatcher = dispatcher;
+        this.async = asyncRemote(session, dispatcher.getSendTimeLimitMillis());
+    }
+
+    private static RemoteEndpoint.Async asyncRemote(WebSocketSession session, long sendTimeoutMillis) {
+        if (!(session instanceof NativeWebSocketSession nativeSession)) return null;
+
+        Session standardSession = nativeSession.getNativeSession(Session.class);
+        if (standardSession == null) return null;
+
+        RemoteEndpoint.Async remote = standardSession.getAsyncRemote();
+        remote.setSendTimeout(sendTimeoutMillis);
+        return remote;
+    }
+
+    /**
+     * 전송할 메시지를 큐에 넣음 (블로킹하지 않음)
+     * 프레임 길이를 매번 다시 계산하지 않도록 호출하는 쪽이 알고 있는 길이를 함께 넘김
+     * @return 큐에 들어갔으면 true, 세션이 닫혔거나 한도를 넘어 세션을 정리했으면 false
+     */
+    public boolean enqueue(WebSocketMessage<?> message, int length) {
+        if (closed.get() || !session.isOpen()) return false;
+
+        if (isSendTimeExceeded()) {
+            evict(SEND_TIME_EXCEEDED);
+            return false;
+        }
+
+        if (queuedMessages.get() >= dispatcher.getMessageLimit()
+                || queuedBytes.get() + length > dispatcher.getBufferSizeLimit()) {
+            evict(BUFFER_OVERFLOW);
+            return false;
+        }
+
+        queuedMessages.incrementAndGet();
+        queuedBytes.addAndGet(length);
+        dispatcher.onQueued(length);
+        queue.add(new Pending(message, length));
+
+        // 큐에 넣는 사이 세션이 정리되었다면 남은 메시지 버림
+        if (closed.get()) {
+            discardQueued();
+            return false;
+        }
+
+        scheduleDrain();
+        return true;
+    }
+
+    // 이미 큐에 들어간 메시지를 모두 보낸 뒤 세션을 닫음
+    public void closeWhenFlushed(CloseStatus status) {
+        pendingClose = status;
+        scheduleDrain();
+    }
+
+    public int getQueuedMessages() {
+        return queuedMessages.get();
+    }
+
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    public WebSocketSession getSession() {
+        return session;
+    }
+
+    // 전송 시간 한도를 넘겼는지 확인
+    boolean isSendTimeExceeded() {
+        long startedAt = sendStartedAt;
+        return startedAt != 0
+                && System.currentTimeMillis() - startedAt > dispatcher.getSendTimeLimitMillis();
+    }
+
+    // 한도 초과로 세션을 닫음 (닫기는 별도 스레드에서 처리)
+    void evict(CloseStatus status) {
+        int pendingMessages = queuedMessages.get();
+        long pendingBytes = queuedBytes.get();
+        if (!close()) return;
+
+        dispatcher.onEvicted(this, status, pendingMessages, pendingBytes);
+        closeSessionAsync(status);
+    }
+
+    // 대기 중인 메시지를 버리고 즉시 세션을 닫음 (응답 없는 연결 정리용)
+    public void terminate(CloseStatus status) {
+        if (!close()) return;
+
+        closeSessionAsync(status);
+    }
+
+    private void closeSessionAsync(CloseStatus status) {
+        dispatcher.executeClose(() -> {
+            try {
+                session.close(status);
+            } catch (IOException e) {
+                log.debug("Error closing session {}: {}", session.getId(), e.getMessage());
+            }
+        });
+    }
+
+    // 큐를 비우고 더 이상 전송하지 않음, 이미 닫혀 있었다면 false
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) return false;
+
+        discardQueued();
+        return true;
+    }
+
+    private void discardQueued() {
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            release(pending);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    // 큐의 다음 메시지 전송을 시작 (완료되면 onSent에서 다시 호출됨), 보낼 것이 없으면 drain 종료
+    private void drain() {
+        Pending pending = closed.get() ? null : queue.poll();
+        if (pending == null) {
+            finishDrain();
+            return;
+        }
+
+        sendStartedAt = System.currentTimeMillis();
+        dispatcher.onSendStarted(this);
+        try {
+            send(pending);
+        } catch (IOException | RuntimeException e) {
+            onSent(pending, e);
+        }
+    }
+
+    private void send(Pending pending) throws IOException {
+        WebSocketMessage<?> message = pending.message();
+        if (async == null) {
+            session.sendMessage(message);
+            onSent(pending, null);
+        } else if (message instanceof TextMessage text) {
+            async.sendText(text.getPayload(), result -> onSent(pending, result.getException()));
+        } else if (message instanceof BinaryMessage binary) {
+            async.sendBinary(binary.getPayload(), result -> onSent(pending, result.getException()));
+        } else {
+            // 제어 프레임은 크기가 작아 컨테이너가 바로 씀
+            if (message instanceof PingMessage ping) {
+                async.sendPing(ping.getPayload());
+            } else if (message instanceof PongMessage pong) {
+                async.sendPong(pong.getPayload());
+            } else {
+                session.sendMessage(message);
+            }
+            onSent(pending, null);
+        }
+    }
+
+    // 전송 완료 (컨테이너 스레드에서 호출될 수 있으므로 다음 전송은 송신 스레드로 넘김)
+    private void onSent(Pending pending, Throwable error) {
+        sendStartedAt = 0;
+        dispatcher.onSendFinished(this);
+        release(pending);
+
+        if (error != null) {
+            log.error("Error sending WebSocket message to session {}. Error: {}", session.getId(), error.getMessage());
+        }
+        dispatcher.execute(this::drain);
+    }
+
+    private void finishDrain() {
+        try {
+            CloseStatus status = pendingClose;
+            if (status != null && queue.isEmpty() && close()) {
+                session.close(status);
+            }
+        } catch (IOException e) {
+            log.debug("Error closing session {}: {}", session.getId(), e.getMessage());
+        } finally {
+            draining.set(false);
+            // drain 종료와 enqueue 사이에 들어온 메시지가 남아있으면 다시 예약
+            if (!closed.get() && (!queue.isEmpty() || pendingClose != null)) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void release(Pending pending) {
+        queuedMessages.decrementAndGet();
+        queuedBytes.addAndGet(-pending.length());
+        dispatcher.onReleased(pending.length());
+    }
+
+    // 큐에 들어간 메시지와 enqueue 시점의 길이 (해제할 때 같은 값을 빼기 위함)
+    private record Pending(WebSocketMessage<?> message, int length) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.urikkiriserver.global.websocket.outbound;
+
+import com.example.urikkiriserver.global.websocket.WebSocketProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션별 송신 큐(OutboundSession)를 만들고, 비동기 전송을 시작하는 송신 스레드 풀을 관리
+ * (전송 완료는 컨테이너 콜백으로 받으므로 느린 클라이언트가 송신 스레드를 붙잡지 않음)
+ * 전체 대기 메시지/바이트 수와 느린 클라이언트 강제 종료 횟수를 메트릭으로 노출함
+ */
+@Slf4j
+@Component
+public class SessionOutboundDispatcher {
+
+    private final WebSocketProperties.Outbound properties;
+    private final ExecutorService sender;
+
+    // 강제 종료 전용 스레드 (송신 스레드가 모두 막혀 있어도 세션을 닫을 수 있도록 분리)
+    private final ExecutorService closer = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("ws-outbound-closer-"));
+
+    // 지금 전송 중인 세션들 (전송 시간 초과 감시용)
+    private final Set<OutboundSession> sending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong queuedMessages = new AtomicLong();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final Counter overflowEvictions;
+    private final Counter sendTimeEvictions;
+
+    public SessionOutboundDispatcher(WebSocketProperties webSocketProperties, MeterRegistry meterRegistry) {
+        this.properties = webSocketProperties.outbound();
+        this.sender = Executors.newFixedThreadPool(
+                properties.senderThreads(),
+                new CustomizableThreadFactory("ws-outbound-")
+        );
+
+        Gauge.builder("websocket.outbound.queued.messages", queuedMessages, AtomicLong::get)
+                .description("Messages waiting in per-session outbound queues")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queued.bytes", queuedBytes, AtomicLong::get)
+                .description("Payload bytes waiting in per-session outbound queues")
+                .register(meterRegistry);
+        this.overflowEvictions = Counter.builder("websocket.outbound.evictions")
+                .tag("reason", "buffer_overflow")
+                .register(meterRegistry);
+        this.sendTimeEvictions = Counter.builder("websocket.outbound.evictions")
+                .tag("reason", "send_time_limit")
+                .register(meterRegistry);
+    }
+
+    // 새로 연결된 세션의 송신 큐 생성
+    public OutboundSession open(WebSocketSession session) {
+        return new OutboundSession(session, this);
+    }
+
+    // 연결 종료 시 송신 큐 정리
+    public void close(OutboundSession outbound) {
+        outbound.close();
+        sending.remove(outbound);
+    }
+
+    public long getQueuedMessages() {
+        return queuedMessages.get();
+    }
+
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    public long getEvictionCount() {
+        return (long) (overflowEvictions.count() + sendTimeEvictions.count());
+    }
+
+    // 전송이 멈춘 세션 정리 (다음 메시지가 오지 않아도 송신 스레드를 풀어주기 위함)
+    @Scheduled(fixedDelay = 1000)
+    public void evictStalledSessions() {
+        sending.forEach(outbound -> {
+            if (outbound.isSendTimeExceeded()) {
+                outbound.evict(OutboundSession.SEND_TIME_EXCEEDED);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+        closer.shutdown();
+    }
+
+    void execute(Runnable task) {
+        sender.execute(task);
+    }
+
+    void executeClose(Runnable task) {
+        closer.execute(task);
+    }
+
+    long getSendTimeLimitMillis() {
+        return properties.sendTimeLimitMillis();
+    }
+
+    long getBufferSizeLimit() {
+        return properties.bufferSizeLimit();
+    }
+
+    int getMessageLimit() {
+        return properties.messageLimit();
+    }
+
+    void onQueued(int length) {
+        queuedMessages.incrementAndGet();
+        queuedBytes.addAndGet(length);
+    }
+
+    void onReleased(int length) {
+        queuedMessages.decrementAndGet();
+        queuedBytes.addAndGet(-length);
+    }
+
+    void onSendStarted(OutboundSession outbound) {
+        sending.add(outbound);
+    }
+
+    void onSendFinished(OutboundSession outbound) {
+        sending.remove(outbound);
+    }
+
+    void onEvicted(OutboundSession outbound, CloseStatus status, int pendingMessages, long pendingBytes) {
+        sending.remove(outbound);
+        if (status == OutboundSession.SEND_TIME_EXCEEDED) {
+            sendTimeEvictions.increment();
+        } else {
+            overflowEvictions.increment();
+        }
+        log.warn("Evicting slow WebSocket session {} ({}, queued: {} messages / {} bytes)",
+                outbound.getSession().getId(), status.getReason(), pendingMessages, pendingBytes);
+    }
+}